@@ -0,0 +1,89 @@
+package com.meetmate.benchmarks;
+
+import com.meetmate.place.util.DistanceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single member-place distance with each DistanceCalculator variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceBenchmark {
+
+    private static final int PAIRS = 4096;
+
+    private final double[] lat1 = new double[PAIRS];
+    private final double[] lng1 = new double[PAIRS];
+    private final double[] lat2 = new double[PAIRS];
+    private final double[] lng2 = new double[PAIRS];
+    private final double[] lat1Rad = new double[PAIRS];
+    private final double[] lng1Rad = new double[PAIRS];
+    private final double[] cosLat1 = new double[PAIRS];
+    private final double[] lat2Rad = new double[PAIRS];
+    private final double[] lng2Rad = new double[PAIRS];
+    private final double[] cosLat2 = new double[PAIRS];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < PAIRS; i++) {
+            lat1[i] = 23.0 + random.nextDouble() * 0.5;
+            lng1[i] = 72.4 + random.nextDouble() * 0.5;
+            lat2[i] = 23.0 + random.nextDouble() * 0.5;
+            lng2[i] = 72.4 + random.nextDouble() * 0.5;
+            lat1Rad[i] = Math.toRadians(lat1[i]);
+            lng1Rad[i] = Math.toRadians(lng1[i]);
+            cosLat1[i] = Math.cos(lat1Rad[i]);
+            lat2Rad[i] = Math.toRadians(lat2[i]);
+            lng2Rad[i] = Math.toRadians(lng2[i]);
+            cosLat2[i] = Math.cos(lat2Rad[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double haversineFromDegrees() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += DistanceCalculator.calculateDistance(lat1[i], lng1[i], lat2[i], lng2[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double haversinePrecomputed() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += DistanceCalculator.haversine(lat1Rad[i], lng1Rad[i], cosLat1[i], lat2Rad[i], lng2Rad[i], cosLat2[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double equirectangularPrecomputed() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += DistanceCalculator.equirectangular(lat1Rad[i], lng1Rad[i], cosLat1[i], lat2Rad[i], lng2Rad[i], cosLat2[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,88 @@
+package com.meetmate.benchmarks;
+
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.service.PreferenceClient;
+import com.meetmate.place.service.ScoringExecutor;
+import com.meetmate.place.service.ScoringKernel;
+import com.meetmate.place.util.DistanceCalculator;
+import com.meetmate.place.util.TopKSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recommendation hot path as run by RecommendationService after candidates are loaded:
+ * prepare the scoring kernel, score every candidate and keep the top 20.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    private static final int MAX_RESULTS = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    int catalogSize;
+
+    @Param({"2", "20", "500"})
+    int groupSize;
+
+    @Param({"HAVERSINE", "EQUIRECTANGULAR"})
+    DistanceCalculator.Mode distanceMode;
+
+    private List<Place> places;
+    private Map<UUID, PreferenceClient.MemberPref> prefs;
+    private ScoringExecutor sequential;
+    private ScoringExecutor parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        places = SyntheticData.places(catalogSize, 42);
+        prefs = SyntheticData.members(groupSize, 7);
+
+        RecommendationProperties sequentialProps = new RecommendationProperties();
+        sequentialProps.getParallel().setEnabled(false);
+        sequential = new ScoringExecutor(sequentialProps);
+
+        RecommendationProperties parallelProps = new RecommendationProperties();
+        parallelProps.getParallel().setThreshold(0);
+        parallel = new ScoringExecutor(parallelProps);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Benchmark
+    public TopKSelector scoreSequential() {
+        ScoringKernel kernel = ScoringKernel.prepare(prefs.keySet(), prefs, places, distanceMode);
+        return sequential.selectTop(kernel, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public TopKSelector scoreParallel() {
+        ScoringKernel kernel = ScoringKernel.prepare(prefs.keySet(), prefs, places, distanceMode);
+        return parallel.selectTop(kernel, MAX_RESULTS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.meetmate.benchmarks;
+
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.service.PreferenceClient;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic catalogs and groups spread over a city-sized area, so benchmark runs
+ * are reproducible without Postgres or group-service.
+ */
+final class SyntheticData {
+
+    private static final double CENTER_LAT = 23.0225;
+    private static final double CENTER_LNG = 72.5714;
+    private static final double SPREAD_DEGREES = 0.25;
+    private static final String[] COST_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+
+    private SyntheticData() {}
+
+    static List<Place> places(int count, long seed) {
+        Random random = new Random(seed);
+        List<Place> places = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            places.add(Place.builder()
+                .id(new UUID(seed, i))
+                .name("Place " + i)
+                .category("RESTAURANT")
+                .lat(coordinate(CENTER_LAT, random))
+                .lng(coordinate(CENTER_LNG, random))
+                .costLevel(COST_LEVELS[random.nextInt(COST_LEVELS.length)])
+                .hasVeg(random.nextInt(10) < 8)
+                .hasNonVeg(random.nextBoolean())
+                .rating(BigDecimal.valueOf(25 + random.nextInt(26), 1))
+                .isActive(true)
+                .build());
+        }
+        return places;
+    }
+
+    static Map<UUID, PreferenceClient.MemberPref> members(int count, long seed) {
+        Random random = new Random(seed);
+        Map<UUID, PreferenceClient.MemberPref> prefs = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            UUID userId = new UUID(seed, i);
+            prefs.put(userId, PreferenceClient.MemberPref.builder()
+                .userId(userId)
+                .budgetLevel(COST_LEVELS[1 + random.nextInt(2)])
+                .foodPreference(random.nextInt(20) == 0 ? "VEG_ONLY" : "NO_PREFERENCE")
+                .maxDistanceKm(30 + random.nextInt(21))
+                .currentLat(coordinate(CENTER_LAT, random))
+                .currentLng(coordinate(CENTER_LNG, random))
+                .build());
+        }
+        return prefs;
+    }
+
+    private static BigDecimal coordinate(double center, Random random) {
+        double value = center + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES;
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+}
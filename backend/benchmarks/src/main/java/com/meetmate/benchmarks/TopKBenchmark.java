@@ -0,0 +1,70 @@
+package com.meetmate.benchmarks;
+
+import com.meetmate.place.util.TopKSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded heap selection versus the previous collect-sort-limit approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopKBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int candidates;
+
+    @Param({"5", "20"})
+    int k;
+
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        scores = new double[candidates];
+        for (int i = 0; i < candidates; i++) {
+            scores[i] = random.nextDouble() * 100;
+        }
+    }
+
+    @Benchmark
+    public int[] boundedHeap() {
+        TopKSelector selector = new TopKSelector(k);
+        for (int i = 0; i < scores.length; i++) {
+            selector.offer(scores[i], i);
+        }
+        return selector.idsDescending();
+    }
+
+    @Benchmark
+    public List<Scored> fullSort() {
+        List<Scored> all = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            all.add(new Scored(i, scores[i]));
+        }
+        all.sort(Comparator.comparing(Scored::score).reversed());
+        return all.stream().limit(k).toList();
+    }
+
+    public record Scored(int index, double score) {}
+}
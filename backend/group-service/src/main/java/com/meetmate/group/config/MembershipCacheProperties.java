@@ -0,0 +1,29 @@
+package com.meetmate.group.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "membership-cache")
+public class MembershipCacheProperties {
+
+    /**
+     * Answer membership and ownership checks from memory instead of the database.
+     */
+    private boolean enabled = true;
+    /**
+     * Maximum number of cached (group, user) membership answers; group owners are bounded the same way.
+     */
+    private long maxSize = 100_000;
+    /**
+     * Upper bound on staleness. Changes made through this instance invalidate immediately after
+     * commit; changes made through another instance are only picked up after this long.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,39 @@
+package com.meetmate.group.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "preferences.invalidation")
+public class PreferenceInvalidationProperties {
+
+    /**
+     * Notify downstream caches after group preferences or membership change.
+     */
+    private boolean enabled = true;
+    /**
+     * Base URLs of every place-recommendation-service instance that caches group preferences.
+     */
+    private List<String> targets = new ArrayList<>(List.of("http://localhost:8083"));
+    /**
+     * Shared secret sent as {@code X-Internal-Token}; must match place-recommendation-service's
+     * {@code group.service.internal-secret}.
+     */
+    private String secret = "";
+    /**
+     * Connect and response timeout for a single notification.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+    /**
+     * Notifications waiting to be sent; further changes are dropped (and logged) when full.
+     */
+    private int queueCapacity = 1_000;
+}
@@ -0,0 +1,36 @@
+package com.meetmate.group.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "preferences.stream")
+public class PreferenceStreamProperties {
+
+    /**
+     * Lifetime of one stream connection; clients reconnect automatically when it ends.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+    /**
+     * Interval between keep-alive comments, which also detect connections the client dropped.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+    /**
+     * Open streams allowed per instance; new subscriptions are refused with 503 beyond this.
+     */
+    private int maxConnections = 10_000;
+    /**
+     * Events buffered per stream; a client that falls further behind is disconnected.
+     */
+    private int subscriberQueueCapacity = 64;
+    /**
+     * Threads writing to streams; a stalled client holds at most one of them.
+     */
+    private int senderThreads = 4;
+}
@@ -0,0 +1,41 @@
+package com.meetmate.group.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * Send read-only transactions to the replica below.
+     */
+    private boolean enabled = false;
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+    /**
+     * Replica credentials; default to the primary's when blank.
+     */
+    private String username;
+    private String password;
+    /**
+     * Connections in the replica pool.
+     */
+    private int maximumPoolSize = 10;
+    /**
+     * Replica lag above which reads fall back to the primary.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+    /**
+     * How often replication lag is measured.
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
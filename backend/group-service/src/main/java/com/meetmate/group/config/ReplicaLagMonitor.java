@@ -0,0 +1,81 @@
+package com.meetmate.group.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replica lag as the age of the last replayed transaction; an idle primary therefore
+ * looks lagging, which only sends reads to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+        SELECT CASE WHEN pg_is_in_recovery()
+            THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            ELSE 0 END
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService executor;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, properties.getLagCheckInterval().toSeconds()));
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getLagCheckInterval().toMillis();
+        this.executor.scheduleWithFixedDelay(this::check, 0, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+            .description("Seconds since the last transaction replayed on the replica; NaN while unreachable")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether the last check reached the replica and found it within the allowed lag.
+     */
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void check() {
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            boolean nowUsable = lagSeconds <= maxLagSeconds;
+            if (nowUsable != usable) {
+                log.info("Replica {} reads (lag {}s)", nowUsable ? "now serving" : "no longer serving", lagSeconds);
+            }
+            usable = nowUsable;
+        } catch (RuntimeException ex) {
+            if (usable) {
+                log.warn("Replica unreachable, routing reads to the primary: {}", ex.getMessage());
+            }
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+    }
+}
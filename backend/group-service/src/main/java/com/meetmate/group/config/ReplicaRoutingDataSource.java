@@ -0,0 +1,55 @@
+package com.meetmate.group.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica while it is usable. Must sit behind a
+ * LazyConnectionDataSourceProxy, since the connection is taken before the read-only flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryCounter = routed(meterRegistry, "primary");
+        this.replicaCounter = routed(meterRegistry, "replica");
+        this.fallbackCounter = routed(meterRegistry, "fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return PRIMARY;
+        }
+        if (!lagMonitor.isUsable()) {
+            fallbackCounter.increment();
+            return PRIMARY;
+        }
+        replicaCounter.increment();
+        return REPLICA;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routed")
+            .description("Connections handed out by target; fallback counts read-only work sent to the primary")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+}
@@ -1,8 +1,11 @@
 package com.meetmate.group.controller;
 
 import com.meetmate.group.dto.request.AddMemberRequest;
+import com.meetmate.group.dto.request.BulkAddMembersRequest;
 import com.meetmate.group.dto.request.CreateGroupRequest;
 import com.meetmate.group.dto.request.UpdateGroupRequest;
+import com.meetmate.group.dto.response.CursorPageResponse;
+import com.meetmate.group.dto.response.GroupMemberResponse;
 import com.meetmate.group.dto.response.GroupResponse;
 import com.meetmate.group.service.GroupService;
 import jakarta.validation.Valid;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -41,6 +45,17 @@ public class GroupController {
         return groupService.listGroups(getCurrentUserId());
     }
 
+    /**
+     * Paginated variant, selected by passing {@code limit}; {@code view=summary} returns member counts
+     * instead of member lists.
+     */
+    @GetMapping(params = "limit")
+    public CursorPageResponse<GroupResponse> listGroups(@RequestParam int limit,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "full") String view) {
+        return groupService.listGroups(getCurrentUserId(), cursor, limit, "summary".equalsIgnoreCase(view));
+    }
+
     @GetMapping("/{id}")
     public GroupResponse getGroup(@PathVariable UUID id) {
         return groupService.getGroup(id, getCurrentUserId());
@@ -57,11 +72,23 @@ public class GroupController {
         groupService.deleteGroup(id, getCurrentUserId());
     }
 
+    @GetMapping("/{id}/members")
+    public CursorPageResponse<GroupMemberResponse> listMembers(@PathVariable UUID id,
+                                                               @RequestParam(defaultValue = "50") int limit,
+                                                               @RequestParam(required = false) String cursor) {
+        return groupService.listMembers(id, getCurrentUserId(), cursor, limit);
+    }
+
     @PostMapping("/{id}/members")
     public GroupResponse addMember(@PathVariable UUID id, @Valid @RequestBody AddMemberRequest request) {
         return groupService.addMember(id, request, getCurrentUserId());
     }
 
+    @PostMapping("/{id}/members/batch")
+    public GroupResponse addMembers(@PathVariable UUID id, @Valid @RequestBody BulkAddMembersRequest request) {
+        return groupService.addMembers(id, request, getCurrentUserId());
+    }
+
     @DeleteMapping("/{groupId}/members/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void removeMember(@PathVariable UUID groupId, @PathVariable UUID userId) {
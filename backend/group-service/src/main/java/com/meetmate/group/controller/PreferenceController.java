@@ -1,11 +1,16 @@
 package com.meetmate.group.controller;
 
+import com.meetmate.group.dto.request.BatchPreferencesRequest;
 import com.meetmate.group.dto.request.UpdatePreferenceRequest;
+import com.meetmate.group.dto.response.CompactPreferencesResponse;
 import com.meetmate.group.dto.response.MemberPreferenceResponse;
 import com.meetmate.group.service.PreferenceService;
+import com.meetmate.group.service.PreferenceStreamHub;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,30 +20,78 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
-@RequestMapping("/api/groups/{groupId}/preferences")
+@RequestMapping("/api/groups")
 @RequiredArgsConstructor
 public class PreferenceController {
 
     private final PreferenceService preferenceService;
+    private final PreferenceStreamHub preferenceStreamHub;
 
-    @PostMapping
+    @PostMapping("/{groupId}/preferences")
     @ResponseStatus(HttpStatus.OK)
     public MemberPreferenceResponse updatePreferences(@PathVariable UUID groupId,
                                                       @Valid @RequestBody UpdatePreferenceRequest request) {
         return preferenceService.updatePreferences(groupId, getCurrentUserId(), request);
     }
 
-    @GetMapping
-    public List<MemberPreferenceResponse> getGroupPreferences(@PathVariable UUID groupId) {
-        return preferenceService.getGroupPreferences(groupId, getCurrentUserId());
+    /**
+     * Answers {@code If-None-Match} with 304 from the group's preference version alone,
+     * without loading any preference rows.
+     */
+    @GetMapping("/{groupId}/preferences")
+    public ResponseEntity<List<MemberPreferenceResponse>> getGroupPreferences(@PathVariable UUID groupId,
+                                                                              WebRequest webRequest) {
+        UUID userId = getCurrentUserId();
+        String etag = "\"" + preferenceService.getPreferencesVersion(groupId, userId) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(preferenceService.getGroupPreferences(groupId, userId));
+    }
+
+    /**
+     * Scoring fields only, in columnar form; used by place-recommendation-service.
+     * Supports {@code If-None-Match} like the full list.
+     */
+    @GetMapping("/{groupId}/preferences/compact")
+    public ResponseEntity<CompactPreferencesResponse> getCompactGroupPreferences(@PathVariable UUID groupId,
+                                                                                 WebRequest webRequest) {
+        UUID userId = getCurrentUserId();
+        String etag = "\"" + preferenceService.getPreferencesVersion(groupId, userId) + "-compact\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(preferenceService.getCompactGroupPreferences(groupId, userId));
+    }
+
+    /**
+     * Server-sent events: a {@code version} event on connect, then one {@code preference} event per
+     * committed update, each carrying the changed member's fields and the new version.
+     */
+    @GetMapping(value = "/{groupId}/preferences/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPreferences(@PathVariable UUID groupId) {
+        UUID userId = getCurrentUserId();
+        long version = preferenceService.getPreferencesVersion(groupId, userId);
+        return preferenceStreamHub.subscribe(groupId, userId, version);
+    }
+
+    /**
+     * Compact preferences of several groups in one call, keyed by group id; used for bulk jobs.
+     */
+    @PostMapping("/preferences/batch")
+    public Map<UUID, CompactPreferencesResponse> getCompactGroupPreferences(@Valid @RequestBody BatchPreferencesRequest request) {
+        return preferenceService.getCompactGroupPreferences(request.getGroupIds(), getCurrentUserId());
     }
 
-    @GetMapping("/{userId}")
+    @GetMapping("/{groupId}/preferences/{userId}")
     public MemberPreferenceResponse getMemberPreference(@PathVariable UUID groupId, @PathVariable UUID userId) {
         return preferenceService.getMemberPreference(groupId, getCurrentUserId(), userId);
     }
@@ -0,0 +1,5 @@
+package com.meetmate.group.dto.projection;
+
+import java.util.UUID;
+
+public record GroupMemberCount(UUID groupId, long count) {}
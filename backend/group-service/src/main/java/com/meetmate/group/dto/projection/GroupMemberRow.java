@@ -0,0 +1,17 @@
+package com.meetmate.group.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Member columns needed for a {@code GroupMemberResponse}; carries the group id instead of the
+ * eagerly fetched {@code Group} so members of many groups can be loaded in one query.
+ */
+public record GroupMemberRow(
+    UUID groupId,
+    UUID id,
+    UUID userId,
+    String nickname,
+    boolean active,
+    LocalDateTime joinedAt
+) {}
@@ -0,0 +1,14 @@
+package com.meetmate.group.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Group columns needed for a {@code GroupResponse}, selected without loading the entity.
+ */
+public record GroupRow(
+    UUID id,
+    String name,
+    UUID ownerId,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,21 @@
+package com.meetmate.group.dto.projection;
+
+import com.meetmate.group.enums.BudgetLevel;
+import com.meetmate.group.enums.FoodPreference;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The preference fields the recommendation engine scores on, selected directly by JPQL
+ * without loading {@code MemberPreference} entities or their group.
+ */
+public record MemberPreferenceRow(
+    UUID groupId,
+    UUID userId,
+    BudgetLevel budgetLevel,
+    FoodPreference foodPreference,
+    Integer maxDistanceKm,
+    BigDecimal currentLat,
+    BigDecimal currentLng
+) {}
@@ -0,0 +1,16 @@
+package com.meetmate.group.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BatchPreferencesRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<UUID> groupIds;
+}
@@ -0,0 +1,16 @@
+package com.meetmate.group.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkAddMembersRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid AddMemberRequest> members;
+}
@@ -0,0 +1,26 @@
+package com.meetmate.group.dto.response;
+
+import com.meetmate.group.enums.BudgetLevel;
+import com.meetmate.group.enums.FoodPreference;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Columnar form of a group's preferences for service-to-service calls: one array per field,
+ * where index {@code i} of every array describes the same member. Field names are written once
+ * per response instead of once per member.
+ */
+@Data
+@Builder
+public class CompactPreferencesResponse {
+    private List<UUID> userIds;
+    private List<BudgetLevel> budgetLevels;
+    private List<FoodPreference> foodPreferences;
+    private List<Integer> maxDistanceKm;
+    private List<BigDecimal> currentLat;
+    private List<BigDecimal> currentLng;
+}
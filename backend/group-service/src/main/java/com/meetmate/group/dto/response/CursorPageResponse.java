@@ -0,0 +1,17 @@
+package com.meetmate.group.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list; pass {@code nextCursor} back as {@code cursor} to get the
+ * following page. {@code nextCursor} is null on the last page.
+ */
+@Data
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.meetmate.group.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,5 +16,11 @@ public class GroupResponse {
     private UUID ownerId;
     private LocalDateTime createdAt;
     private List<GroupMemberResponse> members;
+    /**
+     * Number of active members; only set by the paginated listing in summary mode, which leaves
+     * {@code members} null.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer memberCount;
 }
 
@@ -0,0 +1,29 @@
+package com.meetmate.group.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.meetmate.group.enums.BudgetLevel;
+import com.meetmate.group.enums.FoodPreference;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One member's preferences after an update, as pushed on the preference stream. {@code version}
+ * is the group's preference version after the change, the same value served as the ETag of
+ * {@code GET /api/groups/{groupId}/preferences}.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PreferenceDeltaResponse {
+    private UUID userId;
+    private long version;
+    private String currentLocation;
+    private BigDecimal currentLat;
+    private BigDecimal currentLng;
+    private Integer maxDistanceKm;
+    private BudgetLevel budgetLevel;
+    private FoodPreference foodPreference;
+}
@@ -41,6 +41,13 @@ public class Group {
     @Column(nullable = false)
     private UUID ownerId;
 
+    /**
+     * Written only by {@code GroupRepository.incrementPreferencesVersion}, never by entity saves,
+     * so renaming a group cannot overwrite a concurrent bump.
+     */
+    @Column(name = "preferences_version", nullable = false, insertable = false, updatable = false)
+    private long preferencesVersion;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -57,7 +57,7 @@ public class MemberPreference {
     @Column(precision = 11, scale = 8)
     private BigDecimal currentLng;
 
-    @Column(name = "transport_modes", columnDefinition = "text[]")
+    @Column(name = "transport_modes", nullable = false)
     @Convert(converter = TransportModesConverter.class)
     private Set<TransportMode> transportModes;
 
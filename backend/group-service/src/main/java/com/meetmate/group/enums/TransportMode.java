@@ -1,6 +1,45 @@
 package com.meetmate.group.enums;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TransportMode {
-    BIKE, CAR, METRO, BUS, WALK, CAB
-}
+    // bits are persisted in member_preferences.transport_modes; never renumber, only add
+    BIKE(1),
+    CAR(1 << 1),
+    METRO(1 << 2),
+    BUS(1 << 3),
+    WALK(1 << 4),
+    CAB(1 << 5);
+
+    private static final TransportMode[] VALUES = values();
+
+    private final int bit;
 
+    TransportMode(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    public static int toMask(Collection<TransportMode> modes) {
+        int mask = 0;
+        for (TransportMode mode : modes) {
+            mask |= mode.bit;
+        }
+        return mask;
+    }
+
+    public static Set<TransportMode> fromMask(int mask) {
+        EnumSet<TransportMode> modes = EnumSet.noneOf(TransportMode.class);
+        for (TransportMode mode : VALUES) {
+            if ((mask & mode.bit) != 0) {
+                modes.add(mode);
+            }
+        }
+        return modes;
+    }
+}
@@ -0,0 +1,8 @@
+package com.meetmate.group.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that changes a group's membership or any member's preferences.
+ */
+public record GroupPreferencesChangedEvent(UUID groupId) {}
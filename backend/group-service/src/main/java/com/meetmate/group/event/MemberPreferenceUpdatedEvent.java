@@ -0,0 +1,10 @@
+package com.meetmate.group.event;
+
+import com.meetmate.group.dto.response.PreferenceDeltaResponse;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that saves one member's preferences, carrying what changed.
+ */
+public record MemberPreferenceUpdatedEvent(UUID groupId, PreferenceDeltaResponse delta) {}
@@ -0,0 +1,9 @@
+package com.meetmate.group.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that adds or removes a member ({@code userId} set) or deletes
+ * the whole group ({@code userId} null).
+ */
+public record MembershipChangedEvent(UUID groupId, UUID userId) {}
@@ -0,0 +1,57 @@
+package com.meetmate.group.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adds or reactivates many members of one group as a single JDBC batch of upserts. Existing rows
+ * keep their id and join time; a null nickname leaves the stored one untouched.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GroupMemberBatchWriter {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO group_members (id, group_id, user_id, nickname, is_active, joined_at)
+        VALUES (?, ?, ?, ?, true, ?)
+        ON CONFLICT (group_id, user_id) DO UPDATE
+            SET is_active = true,
+                nickname = COALESCE(EXCLUDED.nickname, group_members.nickname)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(UUID groupId, List<NewMember> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewMember member = members.get(i);
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, groupId);
+                ps.setObject(3, member.userId());
+                ps.setString(4, member.nickname());
+                ps.setTimestamp(5, joinedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return members.size();
+            }
+        });
+    }
+
+    public record NewMember(UUID userId, String nickname) {}
+}
@@ -1,11 +1,16 @@
 package com.meetmate.group.repository;
 
+import com.meetmate.group.dto.projection.GroupMemberCount;
+import com.meetmate.group.dto.projection.GroupMemberRow;
 import com.meetmate.group.entity.Group;
 import com.meetmate.group.entity.GroupMember;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +19,40 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, UUID>
 
     boolean existsByGroupAndUserId(Group group, UUID userId);
 
+    @Query("SELECT COUNT(gm) > 0 FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.userId = :userId")
+    boolean existsByGroupIdAndUserId(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
+
     Optional<GroupMember> findByGroupAndUserId(Group group, UUID userId);
 
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId")
     List<GroupMember> findAllByGroupId(@Param("groupId") UUID groupId);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.GroupMemberRow("
+        + "gm.group.id, gm.id, gm.userId, gm.nickname, gm.isActive, gm.joinedAt) "
+        + "FROM GroupMember gm WHERE gm.group.id IN :groupIds")
+    List<GroupMemberRow> findRowsByGroupIdIn(@Param("groupIds") Collection<UUID> groupIds);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.GroupMemberRow("
+        + "gm.group.id, gm.id, gm.userId, gm.nickname, gm.isActive, gm.joinedAt) "
+        + "FROM GroupMember gm WHERE gm.group.id = :groupId "
+        + "ORDER BY gm.joinedAt, gm.id")
+    List<GroupMemberRow> findFirstPageByGroupId(@Param("groupId") UUID groupId, Limit limit);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.GroupMemberRow("
+        + "gm.group.id, gm.id, gm.userId, gm.nickname, gm.isActive, gm.joinedAt) "
+        + "FROM GroupMember gm WHERE gm.group.id = :groupId "
+        + "AND (gm.joinedAt > :joinedAt OR (gm.joinedAt = :joinedAt AND gm.id > :id)) "
+        + "ORDER BY gm.joinedAt, gm.id")
+    List<GroupMemberRow> findPageByGroupIdAfter(@Param("groupId") UUID groupId,
+                                                @Param("joinedAt") LocalDateTime joinedAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.GroupMemberCount(gm.group.id, COUNT(gm)) "
+        + "FROM GroupMember gm WHERE gm.group.id IN :groupIds AND gm.isActive = true GROUP BY gm.group.id")
+    List<GroupMemberCount> countActiveByGroupIdIn(@Param("groupIds") Collection<UUID> groupIds);
+
+    @Query("SELECT DISTINCT gm.group.id FROM GroupMember gm WHERE gm.userId = :userId AND gm.group.id IN :groupIds")
+    List<UUID> findGroupIdsWithMember(@Param("userId") UUID userId, @Param("groupIds") Collection<UUID> groupIds);
 }
 
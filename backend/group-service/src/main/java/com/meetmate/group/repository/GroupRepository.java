@@ -1,20 +1,58 @@
 package com.meetmate.group.repository;
 
+import com.meetmate.group.dto.projection.GroupRow;
 import com.meetmate.group.entity.Group;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface GroupRepository extends JpaRepository<Group, UUID> {
 
     @Query("""
-        SELECT DISTINCT g FROM Group g
-        LEFT JOIN GroupMember gm ON gm.group = g
-        WHERE g.ownerId = :userId OR gm.userId = :userId
+        SELECT new com.meetmate.group.dto.projection.GroupRow(g.id, g.name, g.ownerId, g.createdAt)
+        FROM Group g
+        WHERE g.ownerId = :userId
+           OR EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.userId = :userId)
         """)
-    List<Group> findAllForUser(@Param("userId") UUID userId);
+    List<GroupRow> findRowsForUser(@Param("userId") UUID userId);
+
+    @Query("""
+        SELECT new com.meetmate.group.dto.projection.GroupRow(g.id, g.name, g.ownerId, g.createdAt)
+        FROM Group g
+        WHERE (g.ownerId = :userId
+           OR EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.userId = :userId))
+        ORDER BY g.createdAt DESC, g.id DESC
+        """)
+    List<GroupRow> findFirstPageForUser(@Param("userId") UUID userId, Limit limit);
+
+    @Query("""
+        SELECT new com.meetmate.group.dto.projection.GroupRow(g.id, g.name, g.ownerId, g.createdAt)
+        FROM Group g
+        WHERE (g.ownerId = :userId
+           OR EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.userId = :userId))
+          AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id))
+        ORDER BY g.createdAt DESC, g.id DESC
+        """)
+    List<GroupRow> findPageForUserAfter(@Param("userId") UUID userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
+
+    @Query("SELECT g.ownerId FROM Group g WHERE g.id = :groupId")
+    Optional<UUID> findOwnerIdById(@Param("groupId") UUID groupId);
+
+    @Query("SELECT g.preferencesVersion FROM Group g WHERE g.id = :groupId")
+    Optional<Long> findPreferencesVersionById(@Param("groupId") UUID groupId);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.preferencesVersion = g.preferencesVersion + 1 WHERE g.id = :groupId")
+    int incrementPreferencesVersion(@Param("groupId") UUID groupId);
 }
 
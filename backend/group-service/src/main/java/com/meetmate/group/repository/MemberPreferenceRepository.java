@@ -1,11 +1,13 @@
 package com.meetmate.group.repository;
 
+import com.meetmate.group.dto.projection.MemberPreferenceRow;
 import com.meetmate.group.entity.Group;
 import com.meetmate.group.entity.MemberPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,5 +18,23 @@ public interface MemberPreferenceRepository extends JpaRepository<MemberPreferen
 
     @Query("SELECT mp FROM MemberPreference mp WHERE mp.group.id = :groupId")
     List<MemberPreference> findAllByGroupId(@Param("groupId") UUID groupId);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.MemberPreferenceRow("
+        + "mp.group.id, mp.userId, mp.budgetLevel, mp.foodPreference, mp.maxDistanceKm, mp.currentLat, mp.currentLng) "
+        + "FROM MemberPreference mp WHERE mp.group.id = :groupId")
+    List<MemberPreferenceRow> findRowsByGroupId(@Param("groupId") UUID groupId);
+
+    @Query("SELECT new com.meetmate.group.dto.projection.MemberPreferenceRow("
+        + "mp.group.id, mp.userId, mp.budgetLevel, mp.foodPreference, mp.maxDistanceKm, mp.currentLat, mp.currentLng) "
+        + "FROM MemberPreference mp WHERE mp.group.id IN :groupIds")
+    List<MemberPreferenceRow> findRowsByGroupIdIn(@Param("groupIds") Collection<UUID> groupIds);
+
+    /**
+     * Groups in which at least one member can travel by any of the modes in {@code mask},
+     * e.g. {@code TransportMode.METRO.bit()}; see {@link com.meetmate.group.enums.TransportMode#toMask}.
+     */
+    @Query(value = "SELECT DISTINCT group_id FROM member_preferences WHERE transport_modes & :mask <> 0",
+        nativeQuery = true)
+    List<UUID> findGroupIdsWithAnyTransportMode(@Param("mask") int mask);
 }
 
@@ -1,23 +1,39 @@
 package com.meetmate.group.service;
 
+import com.meetmate.group.dto.projection.GroupMemberCount;
+import com.meetmate.group.dto.projection.GroupMemberRow;
+import com.meetmate.group.dto.projection.GroupRow;
 import com.meetmate.group.dto.request.AddMemberRequest;
+import com.meetmate.group.dto.request.BulkAddMembersRequest;
 import com.meetmate.group.dto.request.CreateGroupRequest;
 import com.meetmate.group.dto.request.UpdateGroupRequest;
+import com.meetmate.group.dto.response.CursorPageResponse;
 import com.meetmate.group.dto.response.GroupMemberResponse;
 import com.meetmate.group.dto.response.GroupResponse;
 import com.meetmate.group.entity.Group;
 import com.meetmate.group.entity.GroupMember;
+import com.meetmate.group.event.GroupPreferencesChangedEvent;
+import com.meetmate.group.event.MembershipChangedEvent;
 import com.meetmate.group.exception.ForbiddenOperationException;
 import com.meetmate.group.exception.GroupNotFoundException;
 import com.meetmate.group.exception.MemberNotFoundException;
 import com.meetmate.group.exception.ValidationException;
+import com.meetmate.group.repository.GroupMemberBatchWriter;
+import com.meetmate.group.repository.GroupMemberBatchWriter.NewMember;
 import com.meetmate.group.repository.GroupMemberRepository;
 import com.meetmate.group.repository.GroupRepository;
+import com.meetmate.group.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,8 +41,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GroupService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final GroupMemberBatchWriter groupMemberBatchWriter;
+    private final MembershipCache membershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public GroupResponse createGroup(CreateGroupRequest request, UUID ownerId) {
@@ -47,19 +68,85 @@ public class GroupService {
         return toResponse(saved, List.of(toResponse(ownerMembership)));
     }
 
+    /**
+     * Two queries regardless of how many groups the user is in: the groups, then all of their members.
+     */
     @Transactional(readOnly = true)
     public List<GroupResponse> listGroups(UUID userId) {
-        return groupRepository.findAllForUser(userId).stream()
-            .map(group -> toResponse(group, groupMemberRepository.findAllByGroupId(group.getId())
-                .stream().map(this::toResponse).toList()))
-            .toList();
+        List<GroupRow> groups = groupRepository.findRowsForUser(userId);
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        return withMembers(groups);
+    }
+
+    /**
+     * One page of the user's groups, newest first, keyed on {@code (created_at, id)}. In summary mode
+     * only active member counts are returned instead of member lists.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<GroupResponse> listGroups(UUID userId, String cursor, int limit, boolean summary) {
+        int pageSize = validatePageSize(limit);
+        Limit fetch = Limit.of(pageSize + 1); // one extra row tells whether another page exists
+        List<GroupRow> groups;
+        if (cursor == null || cursor.isBlank()) {
+            groups = groupRepository.findFirstPageForUser(userId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            groups = groupRepository.findPageForUserAfter(userId, after.timestamp(), after.id(), fetch);
+        }
+
+        String nextCursor = null;
+        if (groups.size() > pageSize) {
+            groups = groups.subList(0, pageSize);
+            GroupRow last = groups.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        List<GroupResponse> items = groups.isEmpty() ? List.of()
+            : summary ? withMemberCounts(groups) : withMembers(groups);
+        return CursorPageResponse.<GroupResponse>builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * One page of a group's members in join order, keyed on {@code (joined_at, id)}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<GroupMemberResponse> listMembers(UUID groupId, UUID userId, String cursor, int limit) {
+        int pageSize = validatePageSize(limit);
+        if (membershipCache.ownerOf(groupId).isEmpty()) {
+            throw new GroupNotFoundException("Group not found");
+        }
+        ensureMember(groupId, userId);
+
+        Limit fetch = Limit.of(pageSize + 1);
+        List<GroupMemberRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = groupMemberRepository.findFirstPageByGroupId(groupId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = groupMemberRepository.findPageByGroupIdAfter(groupId, after.timestamp(), after.id(), fetch);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            GroupMemberRow last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.joinedAt(), last.id()).encode();
+        }
+        return CursorPageResponse.<GroupMemberResponse>builder()
+            .items(rows.stream().map(this::toResponse).toList())
+            .nextCursor(nextCursor)
+            .build();
     }
 
     @Transactional(readOnly = true)
     public GroupResponse getGroup(UUID groupId, UUID userId) {
         Group group = groupRepository.findById(groupId)
             .orElseThrow(() -> new GroupNotFoundException("Group not found"));
-        ensureMember(group, userId);
+        ensureMember(groupId, userId);
         List<GroupMemberResponse> members = groupMemberRepository.findAllByGroupId(groupId)
             .stream().map(this::toResponse).toList();
         return toResponse(group, members);
@@ -83,6 +170,8 @@ public class GroupService {
             .orElseThrow(() -> new GroupNotFoundException("Group not found"));
         ensureOwner(group, userId);
         groupRepository.delete(group);
+        eventPublisher.publishEvent(new MembershipChangedEvent(groupId, null));
+        eventPublisher.publishEvent(new GroupPreferencesChangedEvent(groupId));
     }
 
     @Transactional
@@ -111,12 +200,42 @@ public class GroupService {
                 .build();
             groupMemberRepository.save(member);
         }
+        eventPublisher.publishEvent(new MembershipChangedEvent(groupId, newUserId));
+        eventPublisher.publishEvent(new GroupPreferencesChangedEvent(groupId));
 
         List<GroupMemberResponse> members = groupMemberRepository.findAllByGroupId(groupId)
             .stream().map(this::toResponse).toList();
         return toResponse(group, members);
     }
 
+    /**
+     * Adds or reactivates many users in one batched upsert and returns the resulting member list once.
+     * Unlike {@link #addMember}, users who are already active members are not an error. If a user
+     * appears more than once, the last entry wins.
+     */
+    @Transactional
+    public GroupResponse addMembers(UUID groupId, BulkAddMembersRequest request, UUID userId) {
+        Group group = groupRepository.findById(groupId)
+            .orElseThrow(() -> new GroupNotFoundException("Group not found"));
+        ensureOwner(group, userId);
+
+        Map<UUID, NewMember> byUser = new LinkedHashMap<>();
+        for (AddMemberRequest entry : request.getMembers()) {
+            UUID memberUserId = parseUserId(entry.getUserId());
+            byUser.put(memberUserId, new NewMember(memberUserId, entry.getNickname()));
+        }
+        groupMemberBatchWriter.upsertAll(groupId, List.copyOf(byUser.values()));
+
+        for (UUID memberUserId : byUser.keySet()) {
+            eventPublisher.publishEvent(new MembershipChangedEvent(groupId, memberUserId));
+        }
+        eventPublisher.publishEvent(new GroupPreferencesChangedEvent(groupId));
+
+        List<GroupMemberResponse> members = groupMemberRepository.findRowsByGroupIdIn(List.of(groupId))
+            .stream().map(this::toResponse).toList();
+        return toResponse(group, members);
+    }
+
     @Transactional
     public void removeMember(UUID groupId, UUID memberUserId, UUID requesterId) {
         Group group = groupRepository.findById(groupId)
@@ -128,15 +247,57 @@ public class GroupService {
 
         member.setActive(false);
         groupMemberRepository.save(member);
+        eventPublisher.publishEvent(new MembershipChangedEvent(groupId, memberUserId));
+        eventPublisher.publishEvent(new GroupPreferencesChangedEvent(groupId));
     }
 
-    private void ensureMember(Group group, UUID userId) {
-        boolean isMember = groupMemberRepository.existsByGroupAndUserId(group, userId);
-        if (!isMember) {
+    private void ensureMember(UUID groupId, UUID userId) {
+        if (!membershipCache.isMember(groupId, userId)) {
             throw new ForbiddenOperationException("You are not a member of this group");
         }
     }
 
+    private UUID parseUserId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid user id: " + value);
+        }
+    }
+
+    private List<GroupResponse> withMembers(List<GroupRow> groups) {
+        Map<UUID, List<GroupMemberResponse>> membersByGroup = new HashMap<>();
+        List<UUID> groupIds = groups.stream().map(GroupRow::id).toList();
+        for (GroupMemberRow row : groupMemberRepository.findRowsByGroupIdIn(groupIds)) {
+            membersByGroup.computeIfAbsent(row.groupId(), id -> new ArrayList<>()).add(toResponse(row));
+        }
+        return groups.stream()
+            .map(group -> toResponse(group)
+                .members(membersByGroup.getOrDefault(group.id(), List.of()))
+                .build())
+            .toList();
+    }
+
+    private List<GroupResponse> withMemberCounts(List<GroupRow> groups) {
+        Map<UUID, Long> counts = new HashMap<>();
+        List<UUID> groupIds = groups.stream().map(GroupRow::id).toList();
+        for (GroupMemberCount count : groupMemberRepository.countActiveByGroupIdIn(groupIds)) {
+            counts.put(count.groupId(), count.count());
+        }
+        return groups.stream()
+            .map(group -> toResponse(group)
+                .memberCount(counts.getOrDefault(group.id(), 0L).intValue())
+                .build())
+            .toList();
+    }
+
+    private int validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
     private void ensureOwner(Group group, UUID userId) {
         if (!group.getOwnerId().equals(userId)) {
             throw new ForbiddenOperationException("Only owner can modify the group");
@@ -153,6 +314,24 @@ public class GroupService {
             .build();
     }
 
+    private GroupResponse.GroupResponseBuilder toResponse(GroupRow group) {
+        return GroupResponse.builder()
+            .id(group.id())
+            .name(group.name())
+            .ownerId(group.ownerId())
+            .createdAt(group.createdAt());
+    }
+
+    private GroupMemberResponse toResponse(GroupMemberRow row) {
+        return GroupMemberResponse.builder()
+            .id(row.id())
+            .userId(row.userId())
+            .nickname(row.nickname())
+            .active(row.active())
+            .joinedAt(row.joinedAt())
+            .build();
+    }
+
     private GroupMemberResponse toResponse(GroupMember member) {
         return GroupMemberResponse.builder()
             .id(member.getId())
@@ -0,0 +1,91 @@
+package com.meetmate.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meetmate.group.config.MembershipCacheProperties;
+import com.meetmate.group.config.PrimaryReads;
+import com.meetmate.group.event.MembershipChangedEvent;
+import com.meetmate.group.repository.GroupMemberRepository;
+import com.meetmate.group.repository.GroupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of group owners and memberships used for authorization; entries are dropped after
+ * the changing transaction commits, and lookups go through {@link PrimaryReads}.
+ */
+@Component
+public class MembershipCache {
+
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PrimaryReads primaryReads;
+    private final boolean enabled;
+    private final Cache<UUID, UUID> owners;
+    private final Cache<MemberKey, Boolean> memberships;
+
+    public MembershipCache(GroupRepository groupRepository,
+                           GroupMemberRepository groupMemberRepository,
+                           PrimaryReads primaryReads,
+                           MembershipCacheProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.primaryReads = primaryReads;
+        this.enabled = properties.isEnabled();
+        this.owners = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        this.memberships = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, owners, "group-owners");
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "group-memberships");
+    }
+
+    /**
+     * Owner of the group, or empty if the group does not exist. Missing groups are not cached.
+     */
+    public Optional<UUID> ownerOf(UUID groupId) {
+        if (!enabled) {
+            return loadOwner(groupId);
+        }
+        return Optional.ofNullable(owners.get(groupId, id -> loadOwner(id).orElse(null)));
+    }
+
+    public boolean isMember(UUID groupId, UUID userId) {
+        if (!enabled) {
+            return loadMembership(groupId, userId);
+        }
+        return memberships.get(new MemberKey(groupId, userId), key -> loadMembership(key.groupId(), key.userId()));
+    }
+
+    private Optional<UUID> loadOwner(UUID groupId) {
+        return primaryReads.read(() -> groupRepository.findOwnerIdById(groupId));
+    }
+
+    private boolean loadMembership(UUID groupId, UUID userId) {
+        return primaryReads.read(() -> groupMemberRepository.existsByGroupIdAndUserId(groupId, userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (event.userId() != null) {
+            memberships.invalidate(new MemberKey(event.groupId(), event.userId()));
+            return;
+        }
+        owners.invalidate(event.groupId());
+        memberships.asMap().keySet().removeIf(key -> key.groupId().equals(event.groupId()));
+    }
+
+    private record MemberKey(UUID groupId, UUID userId) {}
+}
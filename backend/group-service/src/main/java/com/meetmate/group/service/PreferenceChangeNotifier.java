@@ -0,0 +1,88 @@
+package com.meetmate.group.service;
+
+import com.meetmate.group.config.PreferenceInvalidationProperties;
+import com.meetmate.group.event.GroupPreferencesChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells place-recommendation-service to drop its cached copy of a group's preferences.
+ * <p>
+ * Notifications are sent by webhook after the changing transaction commits, on a background
+ * thread so the caller never waits for them. Delivery is best effort: a missed notification is
+ * bounded by the receiver's cache TTL.
+ */
+@Slf4j
+@Component
+public class PreferenceChangeNotifier {
+
+    private static final String HEADER_INTERNAL_TOKEN = "X-Internal-Token";
+
+    private final PreferenceInvalidationProperties properties;
+    private final RestClient restClient;
+    private final ThreadPoolExecutor executor;
+
+    public PreferenceChangeNotifier(PreferenceInvalidationProperties properties) {
+        this.properties = properties;
+        if (properties.isEnabled() && !StringUtils.hasText(properties.getSecret())) {
+            log.warn("preferences.invalidation.secret is not set; "
+                + "place-recommendation-service will reject invalidations");
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(properties.getTimeout())
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getTimeout());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "preference-invalidation");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @TransactionalEventListener
+    public void onPreferencesChanged(GroupPreferencesChangedEvent event) {
+        if (!properties.isEnabled() || properties.getTargets().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> notifyTargets(event.groupId()));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Invalidation queue full, dropping notification for group {}", event.groupId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void notifyTargets(UUID groupId) {
+        for (String target : properties.getTargets()) {
+            try {
+                restClient.post()
+                    .uri(target + "/internal/groups/{groupId}/preferences/invalidate", groupId)
+                    .header(HEADER_INTERNAL_TOKEN, properties.getSecret())
+                    .retrieve()
+                    .toBodilessEntity();
+            } catch (RuntimeException ex) {
+                log.warn("Could not invalidate preferences of group {} at {}: {}", groupId, target, ex.getMessage());
+            }
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.meetmate.group.service;
 
+import com.meetmate.group.config.PrimaryReads;
+import com.meetmate.group.dto.projection.MemberPreferenceRow;
 import com.meetmate.group.dto.request.UpdatePreferenceRequest;
+import com.meetmate.group.dto.response.CompactPreferencesResponse;
 import com.meetmate.group.dto.response.MemberPreferenceResponse;
+import com.meetmate.group.dto.response.PreferenceDeltaResponse;
 import com.meetmate.group.entity.Group;
 import com.meetmate.group.entity.GroupMember;
 import com.meetmate.group.entity.MemberPreference;
+import com.meetmate.group.event.GroupPreferencesChangedEvent;
+import com.meetmate.group.event.MemberPreferenceUpdatedEvent;
+import com.meetmate.group.enums.BudgetLevel;
+import com.meetmate.group.enums.FoodPreference;
 import com.meetmate.group.exception.ForbiddenOperationException;
 import com.meetmate.group.exception.GroupNotFoundException;
 import com.meetmate.group.exception.ValidationException;
@@ -12,10 +20,19 @@ import com.meetmate.group.repository.GroupMemberRepository;
 import com.meetmate.group.repository.GroupRepository;
 import com.meetmate.group.repository.MemberPreferenceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -25,13 +42,15 @@ public class PreferenceService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final MemberPreferenceRepository memberPreferenceRepository;
+    private final MembershipCache membershipCache;
+    private final PrimaryReads primaryReads;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MemberPreferenceResponse updatePreferences(UUID groupId, UUID userId, UpdatePreferenceRequest request) {
         validatePreferenceRequest(request);
-        Group group = groupRepository.findById(groupId)
-            .orElseThrow(() -> new GroupNotFoundException("Group not found"));
-        ensureMember(group, userId);
+        ensureMember(groupId, userId);
+        Group group = groupRepository.getReferenceById(groupId);
 
         MemberPreference preference = memberPreferenceRepository.findByGroupAndUserId(group, userId)
             .orElse(MemberPreference.builder().group(group).userId(userId).build());
@@ -46,23 +65,70 @@ public class PreferenceService {
         preference.setFoodPreference(request.getFoodPreference());
 
         MemberPreference saved = memberPreferenceRepository.save(preference);
+        groupRepository.incrementPreferencesVersion(groupId);
+        long version = groupRepository.findPreferencesVersionById(groupId).orElseThrow();
+        eventPublisher.publishEvent(new GroupPreferencesChangedEvent(groupId));
+        eventPublisher.publishEvent(new MemberPreferenceUpdatedEvent(groupId, toDelta(saved, version)));
         return toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
-    public List<MemberPreferenceResponse> getGroupPreferences(UUID groupId, UUID userId) {
-        Group group = groupRepository.findById(groupId)
+    /**
+     * Read before the preferences, so the body is never older than the version; not read-only,
+     * so the ETag never comes from the replica.
+     */
+    @Transactional
+    public long getPreferencesVersion(UUID groupId, UUID userId) {
+        ensureMember(groupId, userId);
+        return groupRepository.findPreferencesVersionById(groupId)
             .orElseThrow(() -> new GroupNotFoundException("Group not found"));
-        ensureMember(group, userId);
+    }
+
+    @Transactional
+    public List<MemberPreferenceResponse> getGroupPreferences(UUID groupId, UUID userId) {
+        ensureMember(groupId, userId);
         return memberPreferenceRepository.findAllByGroupId(groupId)
             .stream().map(this::toResponse).toList();
     }
 
+    @Transactional
+    public CompactPreferencesResponse getCompactGroupPreferences(UUID groupId, UUID userId) {
+        ensureMember(groupId, userId);
+        return toCompactResponse(memberPreferenceRepository.findRowsByGroupId(groupId));
+    }
+
+    /**
+     * Compact preferences of many groups from one membership query and one preference query.
+     * Fails if the requester is not a member of every requested group.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, CompactPreferencesResponse> getCompactGroupPreferences(Collection<UUID> groupIds, UUID userId) {
+        Set<UUID> requested = new LinkedHashSet<>(groupIds);
+        // authorization reads the primary, like the membership cache
+        Set<UUID> memberOf = new HashSet<>(
+            primaryReads.read(() -> groupMemberRepository.findGroupIdsWithMember(userId, requested)));
+        for (UUID groupId : requested) {
+            if (!memberOf.contains(groupId)) {
+                throw new ForbiddenOperationException("You are not a member of group " + groupId);
+            }
+        }
+
+        Map<UUID, List<MemberPreferenceRow>> rowsByGroup = new LinkedHashMap<>();
+        for (UUID groupId : requested) {
+            rowsByGroup.put(groupId, new ArrayList<>());
+        }
+        for (MemberPreferenceRow row : memberPreferenceRepository.findRowsByGroupIdIn(requested)) {
+            rowsByGroup.get(row.groupId()).add(row);
+        }
+
+        Map<UUID, CompactPreferencesResponse> result = new LinkedHashMap<>();
+        rowsByGroup.forEach((groupId, rows) -> result.put(groupId, toCompactResponse(rows)));
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public MemberPreferenceResponse getMemberPreference(UUID groupId, UUID requesterId, UUID memberId) {
-        Group group = groupRepository.findById(groupId)
-            .orElseThrow(() -> new GroupNotFoundException("Group not found"));
-        ensureMember(group, requesterId);
+        ensureMember(groupId, requesterId);
+        Group group = groupRepository.getReferenceById(groupId);
         MemberPreference preference = memberPreferenceRepository.findByGroupAndUserId(group, memberId)
             .orElseThrow(() -> new GroupNotFoundException("Member preference not found"));
         return toResponse(preference);
@@ -78,13 +144,54 @@ public class PreferenceService {
         }
     }
 
-    private void ensureMember(Group group, UUID userId) {
-        boolean isMember = groupMemberRepository.existsByGroupAndUserId(group, userId);
-        if (!isMember) {
+    private void ensureMember(UUID groupId, UUID userId) {
+        if (membershipCache.ownerOf(groupId).isEmpty()) {
+            throw new GroupNotFoundException("Group not found");
+        }
+        if (!membershipCache.isMember(groupId, userId)) {
             throw new ForbiddenOperationException("You are not a member of this group");
         }
     }
 
+    private CompactPreferencesResponse toCompactResponse(List<MemberPreferenceRow> rows) {
+        int size = rows.size();
+        List<UUID> userIds = new ArrayList<>(size);
+        List<BudgetLevel> budgetLevels = new ArrayList<>(size);
+        List<FoodPreference> foodPreferences = new ArrayList<>(size);
+        List<Integer> maxDistanceKm = new ArrayList<>(size);
+        List<BigDecimal> currentLat = new ArrayList<>(size);
+        List<BigDecimal> currentLng = new ArrayList<>(size);
+        for (MemberPreferenceRow row : rows) {
+            userIds.add(row.userId());
+            budgetLevels.add(row.budgetLevel());
+            foodPreferences.add(row.foodPreference());
+            maxDistanceKm.add(row.maxDistanceKm());
+            currentLat.add(row.currentLat());
+            currentLng.add(row.currentLng());
+        }
+        return CompactPreferencesResponse.builder()
+            .userIds(userIds)
+            .budgetLevels(budgetLevels)
+            .foodPreferences(foodPreferences)
+            .maxDistanceKm(maxDistanceKm)
+            .currentLat(currentLat)
+            .currentLng(currentLng)
+            .build();
+    }
+
+    private PreferenceDeltaResponse toDelta(MemberPreference preference, long version) {
+        return PreferenceDeltaResponse.builder()
+            .userId(preference.getUserId())
+            .version(version)
+            .currentLocation(preference.getCurrentLocation())
+            .currentLat(preference.getCurrentLat())
+            .currentLng(preference.getCurrentLng())
+            .maxDistanceKm(preference.getMaxDistanceKm())
+            .budgetLevel(preference.getBudgetLevel())
+            .foodPreference(preference.getFoodPreference())
+            .build();
+    }
+
     private MemberPreferenceResponse toResponse(MemberPreference preference) {
         return MemberPreferenceResponse.builder()
             .id(preference.getId())
@@ -0,0 +1,222 @@
+package com.meetmate.group.service;
+
+import com.meetmate.group.config.PreferenceStreamProperties;
+import com.meetmate.group.dto.response.PreferenceDeltaResponse;
+import com.meetmate.group.event.MemberPreferenceUpdatedEvent;
+import com.meetmate.group.event.MembershipChangedEvent;
+import com.meetmate.group.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans preference changes made through this instance out to server-sent event streams. Each stream
+ * has a bounded queue drained by a small sender pool, so a stalled client only delays itself and is
+ * disconnected once its queue fills.
+ */
+@Slf4j
+@Component
+public class PreferenceStreamHub {
+
+    private static final String DELTA_EVENT = "preference";
+    private static final String VERSION_EVENT = "version";
+
+    private final PreferenceStreamProperties properties;
+    private final Map<UUID, Set<Subscriber>> subscribersByGroup = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ScheduledExecutorService heartbeats;
+    private final ExecutorService senders;
+    private final Counter droppedCounter;
+
+    public PreferenceStreamHub(PreferenceStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("preference-stream-heartbeat"));
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(), daemon("preference-stream-sender"));
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        this.heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("preferences.stream.connections", connections, AtomicInteger::get)
+            .description("Open preference streams")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("preferences.stream.dropped")
+            .description("Preference streams disconnected because the client fell behind")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Caller checks membership; the first event carries the current preference version.
+     */
+    public SseEmitter subscribe(UUID groupId, UUID userId, long version) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open preference streams, retry later");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(groupId, userId, emitter,
+            new ArrayBlockingQueue<>(properties.getSubscriberQueueCapacity()));
+        subscribersByGroup.compute(groupId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(subscriber));
+
+        try {
+            emitter.send(SseEmitter.event().name(VERSION_EVENT).id(Long.toString(version))
+                .data(Map.of("version", version), MediaType.APPLICATION_JSON));
+        } catch (IOException ex) {
+            remove(subscriber);
+            emitter.completeWithError(ex);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onPreferenceUpdated(MemberPreferenceUpdatedEvent event) {
+        Set<Subscriber> subscribers = subscribersByGroup.get(event.groupId());
+        if (subscribers == null) {
+            return;
+        }
+        PreferenceDeltaResponse delta = event.delta();
+        String id = Long.toString(delta.getVersion());
+        for (Subscriber subscriber : subscribers) {
+            // builders are single use: build() appends the event terminator on every call
+            enqueue(subscriber, emitter -> emitter.send(SseEmitter.event()
+                .name(DELTA_EVENT)
+                .id(id)
+                .data(delta, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    /**
+     * Ends streams a membership change may have revoked; remaining members reconnect.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByGroup.get(event.groupId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (event.userId() == null || event.userId().equals(subscriber.userId())) {
+                enqueue(subscriber, SseEmitter::complete);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribersByGroup.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter().complete()));
+    }
+
+    private void heartbeat() {
+        try {
+            subscribersByGroup.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+                if (subscriber.pending().isEmpty()) {
+                    enqueue(subscriber, emitter -> emitter.send(SseEmitter.event().comment("keep-alive")));
+                }
+            }));
+        } catch (RuntimeException ex) {
+            log.error("Preference stream heartbeat failed", ex);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Delivery delivery) {
+        if (!subscriber.pending().offer(delivery)) {
+            droppedCounter.increment();
+            log.warn("Preference stream of user {} in group {} fell behind, disconnecting",
+                subscriber.userId(), subscriber.groupId());
+            remove(subscriber);
+            subscriber.pending().clear();
+            subscriber.pending().offer(SseEmitter::complete);
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Delivery delivery;
+            while ((delivery = subscriber.pending().poll()) != null) {
+                delivery.to(subscriber.emitter());
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // client went away or the stream already completed
+            remove(subscriber);
+            subscriber.pending().clear();
+        } finally {
+            subscriber.draining().set(false);
+        }
+        if (!subscriber.pending().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByGroup.computeIfPresent(subscriber.groupId(), (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Delivery {
+        void to(SseEmitter emitter) throws IOException;
+    }
+
+    private record Subscriber(UUID groupId, UUID userId, SseEmitter emitter, BlockingQueue<Delivery> pending,
+                              AtomicBoolean draining) {
+
+        private Subscriber(UUID groupId, UUID userId, SseEmitter emitter, BlockingQueue<Delivery> pending) {
+            this(groupId, userId, emitter, pending, new AtomicBoolean());
+        }
+
+        // two streams of the same user are distinct subscribers
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.meetmate.group.util;
+
+import com.meetmate.group.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by {@code (timestamp, id)}, passed to clients as an opaque string.
+ * The id breaks ties between rows created in the same instant.
+ */
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, split)), UUID.fromString(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- keyset pagination orders by these columns, so they must never be null
+UPDATE groups SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE groups ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE group_members SET joined_at = CURRENT_TIMESTAMP WHERE joined_at IS NULL;
+ALTER TABLE group_members ALTER COLUMN joined_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_groups_created_id ON groups(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_group_members_group_joined_id ON group_members(group_id, joined_at, id);
@@ -0,0 +1,15 @@
+-- transport_modes moves from text[] to an integer bitmask; bits match TransportMode.bit()
+ALTER TABLE member_preferences ADD COLUMN transport_modes_mask INTEGER NOT NULL DEFAULT 0;
+
+UPDATE member_preferences
+SET transport_modes_mask =
+      (CASE WHEN 'BIKE'  = ANY(transport_modes) THEN 1  ELSE 0 END)
+    | (CASE WHEN 'CAR'   = ANY(transport_modes) THEN 2  ELSE 0 END)
+    | (CASE WHEN 'METRO' = ANY(transport_modes) THEN 4  ELSE 0 END)
+    | (CASE WHEN 'BUS'   = ANY(transport_modes) THEN 8  ELSE 0 END)
+    | (CASE WHEN 'WALK'  = ANY(transport_modes) THEN 16 ELSE 0 END)
+    | (CASE WHEN 'CAB'   = ANY(transport_modes) THEN 32 ELSE 0 END)
+WHERE transport_modes IS NOT NULL;
+
+ALTER TABLE member_preferences DROP COLUMN transport_modes;
+ALTER TABLE member_preferences RENAME COLUMN transport_modes_mask TO transport_modes;
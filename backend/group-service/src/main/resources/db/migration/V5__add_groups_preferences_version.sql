@@ -0,0 +1,2 @@
+-- bumped on every preference update; served as the ETag of the group's preference list
+ALTER TABLE groups ADD COLUMN IF NOT EXISTS preferences_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,66 @@
+package com.meetmate.place.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "group.service")
+public class GroupServiceProperties {
+
+    private String url = "http://localhost:8082";
+    /**
+     * Secret group-service sends in {@code X-Internal-Token} with cache invalidations; while unset,
+     * every {@code /internal} call is refused.
+     */
+    private String internalSecret = "";
+    private PreferenceCache preferenceCache = new PreferenceCache();
+    /**
+     * Upper bound on pooled connections to group-service. All requests go to one route, so this is
+     * also the per-route limit.
+     */
+    private int maxConnections = 100;
+    /**
+     * Time allowed to open a TCP connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    /**
+     * Time allowed between response packets once a request has been sent.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+    /**
+     * Time a caller waits for a free connection when the pool is exhausted.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    /**
+     * Kept-alive connections idle for longer than this are closed by the pool.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class PreferenceCache {
+        /**
+         * Serve repeat preference lookups from memory until group-service reports a change.
+         */
+        private boolean enabled = true;
+        /**
+         * Maximum number of cached groups.
+         */
+        private long maxSize = 10_000;
+        /**
+         * Safety net for lost invalidations: entries are re-fetched after this long regardless.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+        /**
+         * How long the last fetched preferences of a group stay usable as a fallback while
+         * group-service is failing or the circuit breaker is open.
+         */
+        private Duration staleTtl = Duration.ofHours(1);
+    }
+}
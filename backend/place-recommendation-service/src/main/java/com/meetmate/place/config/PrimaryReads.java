@@ -0,0 +1,34 @@
+package com.meetmate.place.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads whose result outlives the request (caches, indexes, ETags) on the primary, so a
+ * lagging replica is never cached as the truth.
+ */
+@Component
+public class PrimaryReads {
+
+    private final boolean replicaEnabled;
+    private final TransactionTemplate primary;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager, ReadReplicaProperties properties) {
+        this.replicaEnabled = properties.isEnabled();
+        this.primary = new TransactionTemplate(transactionManager);
+        this.primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> read) {
+        if (!replicaEnabled || (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return read.get();
+        }
+        return primary.execute(status -> read.get());
+    }
+}
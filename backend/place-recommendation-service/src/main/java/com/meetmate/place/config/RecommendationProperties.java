@@ -0,0 +1,118 @@
+package com.meetmate.place.config;
+
+import com.meetmate.place.util.DistanceCalculator;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recommendation")
+public class RecommendationProperties {
+
+    private SpatialIndex spatialIndex = new SpatialIndex();
+    private WriteBehind writeBehind = new WriteBehind();
+    private Parallel parallel = new Parallel();
+    private ResultCache cache = new ResultCache();
+    /**
+     * Distance formula used for scoring; see DistanceCalculator for the approximation error bound.
+     */
+    private DistanceCalculator.Mode distanceMode = DistanceCalculator.Mode.EQUIRECTANGULAR;
+    /**
+     * Let concurrent identical generate requests for a group share one computation.
+     */
+    private boolean coalesceRequests = true;
+    /**
+     * How often the places table is checked for catalog changes made through other instances.
+     */
+    private long catalogPollIntervalMs = 30_000;
+
+    @Getter
+    @Setter
+    public static class SpatialIndex {
+        /**
+         * Serve candidate places from the in-memory grid instead of a bounding-box query on the places table.
+         */
+        private boolean enabled = true;
+        /**
+         * Edge length of a grid cell in degrees (0.05 is roughly 5.5 km of latitude).
+         */
+        private double cellSizeDegrees = 0.05;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        /**
+         * Return generated recommendations immediately and persist them from a background queue.
+         */
+        private boolean enabled = false;
+        /**
+         * Maximum number of recommendations waiting to be flushed; overflow goes to the spool file.
+         */
+        private int queueCapacity = 10_000;
+        /**
+         * Maximum number of recommendations written per JDBC batch.
+         */
+        private int batchSize = 200;
+        /**
+         * How long the flusher waits for more work before checking the spool, in milliseconds.
+         */
+        private long flushIntervalMs = 500;
+        /**
+         * Append-only file holding recommendations that could not be queued or flushed.
+         */
+        private String spoolFile = "data/recommendation-spool.jsonl";
+        /**
+         * Append-only file for spooled recommendations the database rejected for good (for example a
+         * deleted place) or that could not be parsed; kept for inspection, never replayed automatically.
+         */
+        private String deadLetterFile = "data/recommendation-dead-letter.jsonl";
+        /**
+         * Minimum delay between attempts to replay the spool file, in milliseconds.
+         */
+        private long spoolReplayIntervalMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Parallel {
+        /**
+         * Allow large candidate lists to be scored on the dedicated scoring pool.
+         */
+        private boolean enabled = true;
+        /**
+         * Minimum number of candidate places before scoring leaves the calling thread.
+         */
+        private int threshold = 20_000;
+        /**
+         * Worker threads in the scoring pool; 0 means one per available processor.
+         */
+        private int parallelism = 0;
+        /**
+         * Smallest slice of candidates scored by one task.
+         */
+        private int minSliceSize = 4_096;
+    }
+
+    @Getter
+    @Setter
+    public static class ResultCache {
+        /**
+         * Reuse generated results while group preferences and the place catalog are unchanged.
+         */
+        private boolean enabled = true;
+        /**
+         * Maximum number of cached result lists.
+         */
+        private long maxSize = 10_000;
+        /**
+         * Time after which a cached result list is dropped even if nothing changed.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.meetmate.place.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Logs at startup whether read-only and read-write transactions reach the expected servers.
+ */
+@Slf4j
+public class ReplicaRoutingCheck {
+
+    private static final String SERVER_SQL = """
+        SELECT COALESCE(host(inet_server_addr()), 'local') || ':' || COALESCE(inet_server_port(), 0)
+            || '/' || current_database()
+        """;
+
+    private final JdbcTemplate routed;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+
+    public ReplicaRoutingCheck(DataSource routed, DataSource primary, DataSource replica,
+                               ReplicaLagMonitor lagMonitor, PlatformTransactionManager transactionManager) {
+        this.routed = new JdbcTemplate(routed);
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.lagMonitor = lagMonitor;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try {
+            String primaryServer = server(primary);
+            String replicaServer = server(replica);
+            String readOnlyServer = readOnly.execute(status -> server(routed));
+            String readWriteServer = readWrite.execute(status -> server(routed));
+
+            if (primaryServer.equals(replicaServer)) {
+                log.warn("Replica URL reaches the primary server {}; read-only transactions gain nothing", primaryServer);
+            } else if (!readWriteServer.equals(primaryServer)) {
+                log.warn("Read-write transaction reached {} instead of the primary {}", readWriteServer, primaryServer);
+            } else if (readOnlyServer.equals(replicaServer)) {
+                log.info("Read-only transactions reach the replica {}, read-write the primary {}",
+                    replicaServer, primaryServer);
+            } else if (!lagMonitor.isUsable()) {
+                log.info("Replica {} is lagging or unreachable; read-only transactions use the primary for now",
+                    replicaServer);
+            } else {
+                log.warn("Read-only transaction reached {} instead of the replica {}", readOnlyServer, replicaServer);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not verify replica routing: {}", ex.getMessage());
+        }
+    }
+
+    private static String server(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(SERVER_SQL, String.class);
+    }
+}
@@ -1,9 +1,22 @@
 package com.meetmate.place.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class RestClientConfig {
 
@@ -11,5 +24,48 @@ public class RestClientConfig {
     public RestClient.Builder restClientBuilder() {
         return RestClient.builder();
     }
-}
 
+    /**
+     * Pooled keep-alive connections to group-service, shared by every request. Pool usage is
+     * published as {@code httpcomponents.httpclient.pool.*} with {@code httpclient=group-service}.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager groupServiceConnectionManager(GroupServiceProperties properties,
+                                                                           MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnections())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(manager, "group-service").bindTo(meterRegistry);
+        return manager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient groupServiceHttpClient(PoolingHttpClientConnectionManager groupServiceConnectionManager,
+                                                      GroupServiceProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(groupServiceConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+            .build();
+    }
+
+    @Bean
+    public RestClient groupServiceRestClient(RestClient.Builder restClientBuilder,
+                                             CloseableHttpClient groupServiceHttpClient,
+                                             GroupServiceProperties properties) {
+        return restClientBuilder.clone()
+            .baseUrl(properties.getUrl())
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(groupServiceHttpClient))
+            .build();
+    }
+}
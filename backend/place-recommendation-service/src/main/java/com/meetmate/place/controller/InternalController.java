@@ -0,0 +1,30 @@
+package com.meetmate.place.controller;
+
+import com.meetmate.place.service.GroupPreferenceCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Service-to-service callbacks, authenticated by the shared {@code X-Internal-Token}. Not routed by
+ * the gateway and not tied to a user; the only effect is dropping cached data, which is then
+ * re-fetched on demand.
+ */
+@RestController
+@RequestMapping("/internal")
+@RequiredArgsConstructor
+public class InternalController {
+
+    private final GroupPreferenceCache groupPreferenceCache;
+
+    @PostMapping("/groups/{groupId}/preferences/invalidate")
+    public ResponseEntity<Void> invalidateGroupPreferences(@PathVariable UUID groupId) {
+        groupPreferenceCache.invalidate(groupId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -24,5 +24,9 @@ public class RecommendationResponse {
     private BigDecimal maxDistanceKm;
     private String reasoning;
     private List<UUID> memberIds;
+    /**
+     * True when group-service was unavailable and the last known preferences were used.
+     */
+    private boolean preferencesStale;
 }
 
@@ -0,0 +1,8 @@
+package com.meetmate.place.event;
+
+import java.util.UUID;
+
+/**
+ * Published by PlaceService whenever a place is created, updated or deactivated.
+ */
+public record PlaceCatalogChangedEvent(UUID placeId) {}
@@ -0,0 +1,7 @@
+package com.meetmate.place.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
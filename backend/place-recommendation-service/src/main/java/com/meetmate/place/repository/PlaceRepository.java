@@ -1,10 +1,13 @@
 package com.meetmate.place.repository;
 
 import com.meetmate.place.entity.Place;
+import com.meetmate.place.util.GeoBounds;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,5 +23,27 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
     List<Place> searchActive(@Param("category") String category,
                              @Param("area") String area,
                              @Param("costLevel") String costLevel);
-}
 
+    @Query("""
+        SELECT p FROM Place p
+        WHERE p.isActive = true
+          AND p.lat BETWEEN :minLat AND :maxLat
+          AND p.lng BETWEEN :minLng AND :maxLng
+        """)
+    List<Place> findActiveWithinBounds(@Param("minLat") BigDecimal minLat,
+                                       @Param("maxLat") BigDecimal maxLat,
+                                       @Param("minLng") BigDecimal minLng,
+                                       @Param("maxLng") BigDecimal maxLng);
+
+    default List<Place> findActiveWithinBounds(GeoBounds bounds) {
+        return findActiveWithinBounds(
+            BigDecimal.valueOf(bounds.minLat()), BigDecimal.valueOf(bounds.maxLat()),
+            BigDecimal.valueOf(bounds.minLng()), BigDecimal.valueOf(bounds.maxLng()));
+    }
+
+    @Query("SELECT COUNT(p) FROM Place p WHERE p.isActive = true")
+    long countActive();
+
+    @Query("SELECT MAX(p.updatedAt) FROM Place p")
+    LocalDateTime findLastUpdatedAt();
+}
@@ -0,0 +1,57 @@
+package com.meetmate.place.repository;
+
+import com.meetmate.place.entity.Recommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes generated recommendations as a single JDBC batch. Member ids go into the
+ * {@code member_ids uuid[]} column of the same row, so each recommendation is one insert
+ * regardless of group size. Ids and timestamps must be assigned by the caller.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationBatchWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO recommendations
+            (id, group_id, place_id, requested_by, member_ids, score, avg_distance_km, max_distance_km, reasoning, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Recommendation> recommendations) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Recommendation rec = recommendations.get(i);
+                ps.setObject(1, rec.getId());
+                ps.setObject(2, rec.getGroupId());
+                ps.setObject(3, rec.getPlace().getId());
+                ps.setObject(4, rec.getRequestedBy());
+                ps.setArray(5, ps.getConnection().createArrayOf("uuid", rec.getMemberIds().toArray()));
+                ps.setBigDecimal(6, rec.getScore());
+                ps.setBigDecimal(7, rec.getAvgDistanceKm());
+                ps.setBigDecimal(8, rec.getMaxDistanceKm());
+                ps.setString(9, rec.getReasoning());
+                ps.setTimestamp(10, Timestamp.valueOf(rec.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return recommendations.size();
+            }
+        });
+    }
+}
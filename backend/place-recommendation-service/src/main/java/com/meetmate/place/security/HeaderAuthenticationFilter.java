@@ -1,9 +1,11 @@
 package com.meetmate.place.security;
 
+import com.meetmate.place.config.GroupServiceProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,13 +14,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
 
 @Component
+@RequiredArgsConstructor
 public class HeaderAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String HEADER_USER_ID = "X-User-Id";
     private static final String HEADER_USER_EMAIL = "X-User-Email";
+    private static final String HEADER_INTERNAL_TOKEN = "X-Internal-Token";
+    private static final String INTERNAL_PRINCIPAL = "group-service";
+
+    private final GroupServiceProperties groupServiceProperties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -29,6 +38,16 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        if (request.getRequestURI().startsWith(request.getContextPath() + "/internal/")) {
+            if (!hasInternalToken(request)) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            authenticate(request, INTERNAL_PRINCIPAL);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String userId = request.getHeader(HEADER_USER_ID);
         String email = request.getHeader(HEADER_USER_EMAIL);
 
@@ -38,16 +57,29 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        UsernamePasswordAuthenticationToken authenticationToken =
-            new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
-        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        authenticationToken.setAuthenticated(true);
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        authenticate(request, userId);
 
         request.setAttribute(HEADER_USER_ID, userId);
         request.setAttribute(HEADER_USER_EMAIL, email);
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean hasInternalToken(HttpServletRequest request) {
+        String secret = groupServiceProperties.getInternalSecret();
+        String token = request.getHeader(HEADER_INTERNAL_TOKEN);
+        if (secret == null || secret.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void authenticate(HttpServletRequest request, String principal) {
+        UsernamePasswordAuthenticationToken authenticationToken =
+            new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authenticationToken.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
 }
 
@@ -0,0 +1,97 @@
+package com.meetmate.place.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meetmate.place.config.GroupServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local copy of each group's preferences as last returned by group-service.
+ * <p>
+ * group-service calls {@link #invalidate(UUID)} (through the internal webhook) after every
+ * committed change to a group's preferences or membership; the TTL bounds staleness if such a
+ * notification is lost. An entry only answers for requesters that appear in it, so anybody else
+ * still goes through group-service's membership check. Hit/miss counts are published as the
+ * {@code cache.gets} metric with {@code cache=group-preferences}.
+ * <p>
+ * Separately, the last successfully fetched snapshot of each group is kept for
+ * {@code stale-ttl} regardless of invalidations, as a fallback while group-service is unavailable.
+ */
+@Component
+public class GroupPreferenceCache {
+
+    private final boolean enabled;
+    private final Cache<UUID, PreferenceClient.GroupPreferenceData> cache;
+    private final Cache<UUID, PreferenceClient.GroupPreferenceData> lastKnown;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public GroupPreferenceCache(GroupServiceProperties properties, MeterRegistry meterRegistry) {
+        GroupServiceProperties.PreferenceCache config = properties.getPreferenceCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(config.getTtl())
+            .recordStats()
+            .build();
+        this.lastKnown = Caffeine.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(config.getStaleTtl())
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "group-preferences");
+    }
+
+    public PreferenceClient.GroupPreferenceData get(UUID groupId, UUID requesterId) {
+        if (!enabled) {
+            return null;
+        }
+        PreferenceClient.GroupPreferenceData data = cache.getIfPresent(groupId);
+        return data != null && data.memberPreferences().containsKey(requesterId) ? data : null;
+    }
+
+    /**
+     * Last snapshot fetched for the group as stored, for revalidation with group-service.
+     */
+    public PreferenceClient.GroupPreferenceData peekLastKnown(UUID groupId) {
+        return lastKnown.getIfPresent(groupId);
+    }
+
+    /**
+     * Last snapshot fetched for the group, marked stale, if the requester appears in it.
+     */
+    public PreferenceClient.GroupPreferenceData getLastKnown(UUID groupId, UUID requesterId) {
+        PreferenceClient.GroupPreferenceData data = lastKnown.getIfPresent(groupId);
+        return data != null && data.memberPreferences().containsKey(requesterId) ? data.asStale() : null;
+    }
+
+    /**
+     * Marks the start of a fetch; pass the returned stamp to {@link #put}.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a fetched snapshot unless an invalidation arrived while it was in flight,
+     * in which case the snapshot may predate the change and is not kept.
+     */
+    public void put(UUID groupId, PreferenceClient.GroupPreferenceData data, long stamp) {
+        lastKnown.put(groupId, data);
+        if (!enabled) {
+            return;
+        }
+        cache.put(groupId, data);
+        if (invalidations.get() != stamp) {
+            cache.invalidate(groupId);
+        }
+    }
+
+    public void invalidate(UUID groupId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(groupId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.meetmate.place.service;
+
+import com.meetmate.place.config.PrimaryReads;
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.event.PlaceCatalogChangedEvent;
+import com.meetmate.place.repository.PlaceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter bumped after every change to the place catalog, whether committed here or
+ * seen by polling the places table for changes made through other instances.
+ */
+@Slf4j
+@Component
+public class PlaceCatalogVersion {
+
+    private final PlaceRepository placeRepository;
+    private final PrimaryReads primaryReads;
+    private final AtomicLong version = new AtomicLong();
+    private final ScheduledExecutorService poller;
+
+    private volatile Stamp lastSeen;
+
+    public PlaceCatalogVersion(PlaceRepository placeRepository, PrimaryReads primaryReads,
+                               RecommendationProperties properties) {
+        this.placeRepository = placeRepository;
+        this.primaryReads = primaryReads;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "place-catalog-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getCatalogPollIntervalMs();
+        this.poller.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public long activePlaces() {
+        Stamp stamp = lastSeen;
+        return stamp != null ? stamp.activeRows() : -1; // not polled yet
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(PlaceCatalogChangedEvent event) {
+        synchronized (this) {
+            // so the next poll does not count this change again
+            Stamp stamp = readQuietly();
+            if (stamp != null) {
+                lastSeen = stamp;
+            }
+            version.incrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+    }
+
+    private void poll() {
+        synchronized (this) {
+            Stamp stamp = readQuietly();
+            if (stamp == null || stamp.equals(lastSeen)) {
+                return;
+            }
+            if (lastSeen != null) {
+                version.incrementAndGet();
+                log.debug("Place catalog changed elsewhere, now at version {}", version.get());
+            }
+            lastSeen = stamp;
+        }
+    }
+
+    private Stamp readQuietly() {
+        try {
+            return primaryReads.read(() -> new Stamp(placeRepository.countActive(), placeRepository.findLastUpdatedAt()));
+        } catch (RuntimeException ex) {
+            log.warn("Could not check the place catalog for changes: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private record Stamp(long activeRows, LocalDateTime lastUpdated) {}
+}
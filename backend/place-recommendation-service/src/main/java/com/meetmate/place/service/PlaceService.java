@@ -4,9 +4,11 @@ import com.meetmate.place.dto.request.CreatePlaceRequest;
 import com.meetmate.place.dto.request.UpdatePlaceRequest;
 import com.meetmate.place.dto.response.PlaceResponse;
 import com.meetmate.place.entity.Place;
+import com.meetmate.place.event.PlaceCatalogChangedEvent;
 import com.meetmate.place.exception.NotFoundException;
 import com.meetmate.place.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.UUID;
 public class PlaceService {
 
     private final PlaceRepository placeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PlaceResponse createPlace(CreatePlaceRequest request) {
@@ -35,6 +38,7 @@ public class PlaceService {
             .isActive(true)
             .build();
         Place saved = placeRepository.save(place);
+        eventPublisher.publishEvent(new PlaceCatalogChangedEvent(saved.getId()));
         return toResponse(saved);
     }
 
@@ -69,6 +73,7 @@ public class PlaceService {
         if (request.getActive() != null) place.setActive(request.getActive());
 
         Place saved = placeRepository.save(place);
+        eventPublisher.publishEvent(new PlaceCatalogChangedEvent(saved.getId()));
         return toResponse(saved);
     }
 
@@ -78,6 +83,7 @@ public class PlaceService {
             .orElseThrow(() -> new NotFoundException("Place not found"));
         place.setActive(false);
         placeRepository.save(place);
+        eventPublisher.publishEvent(new PlaceCatalogChangedEvent(id));
     }
 
     private PlaceResponse toResponse(Place place) {
@@ -0,0 +1,186 @@
+package com.meetmate.place.service;
+
+import com.meetmate.place.config.PrimaryReads;
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.repository.PlaceRepository;
+import com.meetmate.place.util.GeoBounds;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory uniform lat/lng grid over the active place catalog.
+ * Rebuilt in the background after catalog changes; lookups use the previous grid until the swap.
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    private final PlaceRepository placeRepository;
+    private final RecommendationProperties properties;
+    private final PlaceCatalogVersion catalogVersion;
+    private final PrimaryReads primaryReads;
+    private final ExecutorService builder;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private volatile Grid grid;
+
+    public PlaceSpatialIndex(PlaceRepository placeRepository, RecommendationProperties properties,
+                             PlaceCatalogVersion catalogVersion, PrimaryReads primaryReads) {
+        this.placeRepository = placeRepository;
+        this.properties = properties;
+        this.catalogVersion = catalogVersion;
+        this.primaryReads = primaryReads;
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "place-grid-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.getSpatialIndex().isEnabled()) {
+            requestRebuild();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * Returns active places inside the given bounds. Callers still apply the exact
+     * distance constraint; the grid only guarantees no place inside the box is missed.
+     */
+    public Candidates findWithin(GeoBounds bounds) {
+        long target = catalogVersion.current();
+        Grid current = grid;
+        if (current == null || current.generation != target) {
+            requestRebuild();
+        }
+        if (bounds.isEmpty()) {
+            return new Candidates(List.of(), target);
+        }
+        if (current == null) {
+            // first build still running
+            return new Candidates(primaryReads.read(() -> placeRepository.findActiveWithinBounds(bounds)), target);
+        }
+        return new Candidates(current.query(bounds), current.generation);
+    }
+
+    private void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            builder.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        // cleared first so a change during this build schedules another one
+        rebuildPending.set(false);
+        long target = catalogVersion.current();
+        Grid current = grid;
+        if (current != null && current.generation == target) {
+            return;
+        }
+        try {
+            grid = build(target);
+        } catch (RuntimeException ex) {
+            log.warn("Could not rebuild the place grid, still serving version {}: {}",
+                current != null ? current.generation : "none", ex.getMessage());
+        }
+    }
+
+    private Grid build(long target) {
+        List<Place> places = primaryReads.read(() -> placeRepository.searchActive(null, null, null));
+        Grid built = new Grid(target, properties.getSpatialIndex().getCellSizeDegrees());
+        for (Place place : places) {
+            built.add(place);
+        }
+        log.debug("Built place grid for catalog version {} with {} places in {} cells",
+            target, places.size(), built.cells.size());
+        return built;
+    }
+
+    public record Candidates(List<Place> places, long catalogVersion) {}
+
+    private static final class Grid {
+        private static final long COLUMNS = 1L << 32;
+
+        private final long generation;
+        private final double cellSize;
+        private final Map<Long, List<Entry>> cells = new HashMap<>();
+
+        private Grid(long generation, double cellSize) {
+            this.generation = generation;
+            this.cellSize = cellSize;
+        }
+
+        private void add(Place place) {
+            double lat = place.getLat().doubleValue();
+            double lng = place.getLng().doubleValue();
+            cells.computeIfAbsent(key(row(lat), col(lng)), k -> new ArrayList<>())
+                .add(new Entry(place, lat, lng));
+        }
+
+        private List<Place> query(GeoBounds bounds) {
+            long minRow = row(bounds.minLat());
+            long maxRow = row(bounds.maxLat());
+            long minCol = col(bounds.minLng());
+            long maxCol = col(bounds.maxLng());
+
+            List<Place> result = new ArrayList<>();
+            long span = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (span > cells.size()) {
+                // box covers more cells than are populated; walking the populated ones is cheaper
+                for (List<Entry> cell : cells.values()) {
+                    collect(cell, bounds, result);
+                }
+                return result;
+            }
+            for (long r = minRow; r <= maxRow; r++) {
+                for (long c = minCol; c <= maxCol; c++) {
+                    List<Entry> cell = cells.get(key(r, c));
+                    if (cell != null) {
+                        collect(cell, bounds, result);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void collect(List<Entry> cell, GeoBounds bounds, List<Place> out) {
+            for (Entry entry : cell) {
+                if (bounds.contains(entry.lat(), entry.lng())) {
+                    out.add(entry.place());
+                }
+            }
+        }
+
+        private long row(double lat) {
+            return (long) Math.floor((lat + 90) / cellSize);
+        }
+
+        private long col(double lng) {
+            return (long) Math.floor((lng + 180) / cellSize);
+        }
+
+        private long key(long row, long col) {
+            return row * COLUMNS + col;
+        }
+    }
+
+    private record Entry(Place place, double lat, double lng) {}
+}
@@ -1,65 +1,157 @@
 package com.meetmate.place.service;
 
+import com.meetmate.place.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Builder;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
 
 /**
  * HTTP client to fetch preferences from group-service (via gateway or directly).
+ * <p>
+ * Calls run on the {@code groupService} thread-pool bulkhead under the {@code groupService} time limiter
+ * and circuit breaker (configured under {@code resilience4j.*}), so a slow group-service ties up a bounded
+ * number of threads and an open breaker fails fast. While calls fail, the last known preferences of the
+ * group are returned marked stale. 4xx responses are the caller's problem, not an outage: they are
+ * passed through and do not count against the breaker.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PreferenceClient {
 
-    private final RestClient.Builder restClientBuilder;
+    static final String GROUP_SERVICE = "groupService";
 
-    @Value("${group.service.url:http://localhost:8082}")
-    private String groupServiceUrl;
+    private final RestClient groupServiceRestClient;
+    private final GroupPreferenceCache groupPreferenceCache;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolBulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public PreferenceClient(RestClient groupServiceRestClient,
+                            GroupPreferenceCache groupPreferenceCache,
+                            CircuitBreakerRegistry circuitBreakerRegistry,
+                            ThreadPoolBulkheadRegistry bulkheadRegistry,
+                            TimeLimiterRegistry timeLimiterRegistry,
+                            MeterRegistry meterRegistry) {
+        this.groupServiceRestClient = groupServiceRestClient;
+        this.groupPreferenceCache = groupPreferenceCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(GROUP_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(GROUP_SERVICE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(GROUP_SERVICE);
+        this.meterRegistry = meterRegistry;
+    }
 
     public GroupPreferenceData fetchGroupPreferences(UUID groupId, UUID requesterId) {
-        RestClient client = restClientBuilder.baseUrl(groupServiceUrl).build();
-        List<PreferenceResponse> response = client.get()
-            .uri("/api/groups/{groupId}/preferences", groupId)
+        GroupPreferenceData cached = groupPreferenceCache.get(groupId, requesterId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = groupPreferenceCache.stamp();
+        GroupPreferenceData fetched;
+        try {
+            fetched = guarded(() -> fetchFromGroupService(groupId, requesterId));
+        } catch (HttpClientErrorException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            return fallback(groupId, requesterId, ex);
+        }
+        groupPreferenceCache.put(groupId, fetched, stamp);
+        return fetched;
+    }
+
+    private <T> T guarded(Callable<T> call) throws Exception {
+        Callable<T> timed = TimeLimiter.decorateFutureSupplier(timeLimiter,
+            () -> bulkhead.executeCallable(call).toCompletableFuture());
+        return circuitBreaker.executeCallable(timed);
+    }
+
+    private GroupPreferenceData fallback(UUID groupId, UUID requesterId, Exception cause) {
+        GroupPreferenceData lastKnown = groupPreferenceCache.getLastKnown(groupId, requesterId);
+        meterRegistry.counter("group.service.preferences.fallback",
+            "outcome", lastKnown != null ? "stale" : "unavailable").increment();
+        if (lastKnown == null) {
+            throw new ServiceUnavailableException("Group preferences are temporarily unavailable", cause);
+        }
+        log.warn("Using last known preferences for group {}: {}", groupId, cause.toString());
+        return lastKnown;
+    }
+
+    /**
+     * Revalidates the last known copy with {@code If-None-Match} when there is one; group-service answers
+     * 304 from its per-group preference version without reading preference rows, and still checks that
+     * the requester is a member.
+     */
+    private GroupPreferenceData fetchFromGroupService(UUID groupId, UUID requesterId) {
+        GroupPreferenceData previous = groupPreferenceCache.peekLastKnown(groupId);
+        ResponseEntity<CompactPreferences> response = groupServiceRestClient.get()
+            .uri("/api/groups/{groupId}/preferences/compact", groupId)
             .header("X-User-Id", requesterId.toString())
+            .headers(headers -> {
+                if (previous != null && previous.etag() != null) {
+                    headers.setIfNoneMatch(previous.etag());
+                }
+            })
             .accept(MediaType.APPLICATION_JSON)
             .retrieve()
-            .body(new ParameterizedTypeReference<>() {});
+            .toEntity(CompactPreferences.class);
 
-        if (response == null || response.isEmpty()) {
-            return new GroupPreferenceData(Map.of());
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+            return previous;
+        }
+        return toData(response.getBody(), response.getHeaders().getETag());
+    }
+
+    private static GroupPreferenceData toData(CompactPreferences response, String etag) {
+        if (response == null || response.userIds() == null || response.userIds().isEmpty()) {
+            return new GroupPreferenceData(Map.of(), false, etag);
         }
 
-        Map<UUID, MemberPref> prefs = response.stream()
-            .collect(Collectors.toMap(
-                PreferenceResponse::userId,
-                pref -> MemberPref.builder()
-                    .userId(pref.userId())
-                    .budgetLevel(pref.budgetLevel())
-                    .foodPreference(pref.foodPreference())
-                    .maxDistanceKm(pref.maxDistanceKm())
-                    .currentLat(pref.currentLat())
-                    .currentLng(pref.currentLng())
-                    .build()
-            ));
-        return new GroupPreferenceData(prefs);
+        int size = response.userIds().size();
+        Map<UUID, MemberPref> prefs = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            UUID userId = response.userIds().get(i);
+            prefs.put(userId, MemberPref.builder()
+                .userId(userId)
+                .budgetLevel(response.budgetLevels().get(i))
+                .foodPreference(response.foodPreferences().get(i))
+                .maxDistanceKm(response.maxDistanceKm().get(i))
+                .currentLat(response.currentLat().get(i))
+                .currentLng(response.currentLng().get(i))
+                .build());
+        }
+        return new GroupPreferenceData(prefs, false, etag);
     }
 
     /**
-     * Data holder representing preferences returned by group-service.
+     * Data holder representing preferences returned by group-service; {@code stale} marks a
+     * fallback copy served while group-service was unavailable, and {@code etag} is the version
+     * group-service reported for it (null for batch fetches).
      */
-    public record GroupPreferenceData(Map<UUID, MemberPref> memberPreferences) {}
+    public record GroupPreferenceData(Map<UUID, MemberPref> memberPreferences, boolean stale, String etag) {
+
+        public GroupPreferenceData asStale() {
+            return stale ? this : new GroupPreferenceData(memberPreferences, true, etag);
+        }
+    }
 
     @Builder
     public record MemberPref(
@@ -71,18 +163,13 @@ public class PreferenceClient {
         BigDecimal currentLng
     ) {}
 
-    // DTO for deserializing response from group-service
-    public record PreferenceResponse(
-        UUID id,
-        UUID userId,
-        String currentLocation,
-        BigDecimal currentLat,
-        BigDecimal currentLng,
-        List<String> transportModes,
-        Integer maxDistanceKm,
-        String travelWillingness,
-        String budgetLevel,
-        String foodPreference
+    // Columnar DTO returned by group-service's compact preferences endpoint; index i of each list is one member
+    public record CompactPreferences(
+        List<UUID> userIds,
+        List<String> budgetLevels,
+        List<String> foodPreferences,
+        List<Integer> maxDistanceKm,
+        List<BigDecimal> currentLat,
+        List<BigDecimal> currentLng
     ) {}
 }
-
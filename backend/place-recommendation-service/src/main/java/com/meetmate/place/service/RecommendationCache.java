@@ -0,0 +1,57 @@
+package com.meetmate.place.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.dto.response.RecommendationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-evicting cache of generated recommendation lists.
+ * <p>
+ * An entry is only reused when the group, the selected members, their fetched preferences,
+ * the requested result count and the place catalog version all match, so a hit can skip
+ * candidate loading, scoring and persistence entirely. Hit/miss counts are published as the
+ * {@code cache.gets} metric with {@code cache=recommendations}.
+ */
+@Component
+public class RecommendationCache {
+
+    private final boolean enabled;
+    private final Cache<Key, List<RecommendationResponse>> cache;
+
+    public RecommendationCache(RecommendationProperties properties, MeterRegistry meterRegistry) {
+        RecommendationProperties.ResultCache config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(config.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recommendations");
+    }
+
+    public List<RecommendationResponse> get(Key key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(Key key, List<RecommendationResponse> responses) {
+        if (enabled) {
+            cache.put(key, List.copyOf(responses));
+        }
+    }
+
+    /**
+     * The preference snapshot is part of the key itself rather than a hash of it,
+     * so two different snapshots can never collide.
+     */
+    public record Key(UUID groupId, Set<UUID> memberIds, Map<UUID, PreferenceClient.MemberPref> preferences,
+                      int maxResults, long catalogVersion) {}
+}
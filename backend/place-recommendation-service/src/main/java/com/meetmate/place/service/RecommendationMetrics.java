@@ -0,0 +1,85 @@
+package com.meetmate.place.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer instrumentation for the recommendation pipeline.
+ * <p>
+ * {@code recommendation.phase} is a timer per pipeline phase (preference_fetch, place_load,
+ * scoring, result_build, persistence) with p50/p95/p99. Scoring includes the top-K selection,
+ * which runs in the same pass; result_build covers the score details and reasoning text of the
+ * selected places. {@code recommendation.candidates} summarizes how many places each request
+ * loaded and scored, {@code recommendation.pruned} how many active places the bounding box or
+ * spatial index kept out of scoring, and {@code recommendation.rejected} how many loaded places
+ * failed the group constraints. Everything is tagged with a bucket of the number of members the
+ * request targets, so latency can be compared across small and large groups.
+ * {@code recommendation.coalesced} counts requests answered from another caller's in-flight
+ * computation.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationMetrics {
+
+    public static final String PREFERENCE_FETCH = "preference_fetch";
+    public static final String PLACE_LOAD = "place_load";
+    public static final String SCORING = "scoring";
+    public static final String RESULT_BUILD = "result_build";
+    public static final String PERSISTENCE = "persistence";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String phase, int groupSize) {
+        sample.stop(Timer.builder("recommendation.phase")
+            .description("Time spent in each recommendation pipeline phase")
+            .tag("phase", phase)
+            .tag("group.size", groupSizeBucket(groupSize))
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry));
+    }
+
+    /**
+     * {@code catalogSize} is the number of active places, or negative if unknown, in which case
+     * nothing is recorded as pruned.
+     */
+    public void recordCandidates(long catalogSize, int candidates, int rejected, int groupSize) {
+        String bucket = groupSizeBucket(groupSize);
+        summary("recommendation.candidates", "Candidate places scored per request", bucket).record(candidates);
+        if (catalogSize >= 0) {
+            summary("recommendation.pruned", "Active places skipped by the bounding box per request", bucket)
+                .record(Math.max(0, catalogSize - candidates)); // count is from the last poll
+        }
+        summary("recommendation.rejected", "Candidate places rejected by group constraints per request", bucket)
+            .record(rejected);
+    }
+
+    public void recordCoalesced() {
+        meterRegistry.counter("recommendation.coalesced").increment();
+    }
+
+    private DistributionSummary summary(String name, String description, String groupSizeBucket) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .tag("group.size", groupSizeBucket)
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry);
+    }
+
+    static String groupSizeBucket(int groupSize) {
+        if (groupSize <= 2) return "1-2";
+        if (groupSize <= 5) return "3-5";
+        if (groupSize <= 10) return "6-10";
+        if (groupSize <= 20) return "11-20";
+        if (groupSize <= 50) return "21-50";
+        return "51+";
+    }
+}
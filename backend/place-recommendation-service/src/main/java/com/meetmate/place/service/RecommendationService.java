@@ -1,26 +1,33 @@
 package com.meetmate.place.service;
 
+import com.meetmate.place.config.PrimaryReads;
+import com.meetmate.place.config.RecommendationProperties;
 import com.meetmate.place.dto.request.GenerateRecommendationRequest;
 import com.meetmate.place.dto.response.RecommendationResponse;
 import com.meetmate.place.entity.Place;
 import com.meetmate.place.entity.Recommendation;
 import com.meetmate.place.exception.NotFoundException;
 import com.meetmate.place.repository.PlaceRepository;
-import com.meetmate.place.repository.RecommendationRepository;
-import com.meetmate.place.util.DistanceCalculator;
+import com.meetmate.place.repository.RecommendationBatchWriter;
+import com.meetmate.place.util.GeoBounds;
+import com.meetmate.place.util.TopKSelector;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,56 +35,190 @@ import java.util.stream.Collectors;
 public class RecommendationService {
 
     private final PlaceRepository placeRepository;
-    private final RecommendationRepository recommendationRepository;
+    private final RecommendationBatchWriter recommendationBatchWriter;
+    private final RecommendationWriteBehind recommendationWriteBehind;
+    private final ScoringExecutor scoringExecutor;
+    private final RecommendationCache recommendationCache;
+    private final PlaceCatalogVersion placeCatalogVersion;
     private final PreferenceClient preferenceClient;
-
-    @Transactional
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final RecommendationProperties properties;
+    private final RecommendationMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final PrimaryReads primaryReads;
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Generated>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Concurrent identical requests for a group share one computation: the first caller generates,
+     * later callers wait for its result. A waiting caller only receives the shared result if group-service
+     * returned preferences for them; otherwise, or if the first caller failed, it generates on its own so
+     * its own membership is checked. Shared results carry the first caller's recommendation ids.
+     * <p>
+     * Not transactional: waiting callers must not hold a connection, and the only write runs in its own
+     * transaction in {@link #saveAndMap}.
+     */
     public List<RecommendationResponse> generateRecommendations(UUID requesterId, GenerateRecommendationRequest request) {
+        if (!properties.isCoalesceRequests()) {
+            return generate(requesterId, request).responses();
+        }
+        FlightKey key = FlightKey.of(request);
+        CompletableFuture<Generated> flight = new CompletableFuture<>();
+        CompletableFuture<Generated> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            Generated shared = awaitQuietly(existing);
+            if (shared != null && shared.preferenceUserIds().contains(requesterId)) {
+                metrics.recordCoalesced();
+                return shared.responses();
+            }
+            return generate(requesterId, request).responses();
+        }
+        try {
+            Generated generated = generate(requesterId, request);
+            flight.complete(generated);
+            return generated.responses();
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Generated awaitQuietly(CompletableFuture<Generated> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            return null; // the first caller's failure may be specific to it, e.g. not a member
+        }
+    }
+
+    private Generated generate(UUID requesterId, GenerateRecommendationRequest request) {
         UUID groupId = request.getGroupId();
 
+        Timer.Sample phase = metrics.start();
         PreferenceClient.GroupPreferenceData prefs = preferenceClient.fetchGroupPreferences(groupId, requesterId);
         Map<UUID, PreferenceClient.MemberPref> memberPrefs = prefs.memberPreferences();
-        if (memberPrefs.isEmpty()) {
-            throw new NotFoundException("No member preferences found for group");
-        }
-
         Set<UUID> targetMembers = request.getMemberIds() == null || request.getMemberIds().isEmpty()
             ? memberPrefs.keySet()
             : memberPrefs.keySet().stream()
                 .filter(id -> request.getMemberIds().contains(id))
                 .collect(Collectors.toSet());
+        int groupSize = targetMembers.size();
+        metrics.stop(phase, RecommendationMetrics.PREFERENCE_FETCH, groupSize);
+        if (memberPrefs.isEmpty()) {
+            throw new NotFoundException("No member preferences found for group");
+        }
+
+        int limit = limitOf(request);
+        Set<UUID> preferenceUserIds = Set.copyOf(memberPrefs.keySet());
+        RecommendationCache.Key cacheKey = new RecommendationCache.Key(
+            groupId, Set.copyOf(targetMembers), Map.copyOf(memberPrefs), limit, placeCatalogVersion.current());
+        // results built from fallback preferences are neither served from nor stored in the cache
+        List<RecommendationResponse> cached = prefs.stale() ? null : recommendationCache.get(cacheKey);
+        if (cached != null) {
+            return new Generated(preferenceUserIds, cached);
+        }
 
-        List<Place> places = placeRepository.searchActive(null, null, null);
-        List<RecommendationScore> scored = new ArrayList<>();
+        phase = metrics.start();
+        PlaceSpatialIndex.Candidates candidates = loadCandidates(targetMembers, memberPrefs, cacheKey.catalogVersion());
+        List<Place> places = candidates.places();
+        metrics.stop(phase, RecommendationMetrics.PLACE_LOAD, groupSize);
+
+        phase = metrics.start();
+        ScoringKernel kernel = ScoringKernel.prepare(targetMembers, memberPrefs, places, properties.getDistanceMode());
+        TopKSelector selector = scoringExecutor.selectTop(kernel, limit);
+        metrics.stop(phase, RecommendationMetrics.SCORING, groupSize);
+        metrics.recordCandidates(placeCatalogVersion.activePlaces(), kernel.size(),
+            kernel.size() - selector.offered(), groupSize);
+
+        phase = metrics.start();
+        List<RecommendationScore> top = new ArrayList<>(selector.size());
+        for (int index : selector.idsDescending()) {
+            ScoringKernel.ScoreDetail detail = kernel.describe(index);
+            top.add(new RecommendationScore(kernel.place(index), detail.score(), detail.avgDistance(), detail.maxDistance(), detail.reasoning()));
+        }
+        metrics.stop(phase, RecommendationMetrics.RESULT_BUILD, groupSize);
+
+        phase = metrics.start();
+        List<RecommendationResponse> responses = saveAndMap(groupId, requesterId, targetMembers, top, prefs.stale());
+        metrics.stop(phase, RecommendationMetrics.PERSISTENCE, groupSize);
+        // a grid still being rebuilt may reflect an older catalog version
+        if (!prefs.stale() && candidates.catalogVersion() == cacheKey.catalogVersion()) {
+            recommendationCache.put(cacheKey, responses);
+        }
+        return new Generated(preferenceUserIds, responses);
+    }
 
-        for (Place place : places) {
-            ScoreResult result = scorePlace(place, targetMembers, memberPrefs);
-            if (result == null) continue; // filtered out by constraints
+    private static int limitOf(GenerateRecommendationRequest request) {
+        return request.getMaxResults() != null ? request.getMaxResults() : 5;
+    }
 
-            RecommendationScore score = new RecommendationScore(place, result.score(), result.avgDistance(), result.maxDistance(), result.reasoning());
-            scored.add(score);
+    /**
+     * A place can only pass the scoring kernel if it lies within the tightest allowed radius of every
+     * located member, so anything outside the intersection of their bounding boxes is skipped.
+     */
+    private PlaceSpatialIndex.Candidates loadCandidates(Set<UUID> memberIds, Map<UUID, PreferenceClient.MemberPref> prefs,
+                                                        long catalogVersion) {
+        GeoBounds bounds = candidateBounds(memberIds, prefs);
+        if (bounds == null || bounds.isEmpty()) {
+            return new PlaceSpatialIndex.Candidates(List.of(), catalogVersion); // no common area
         }
+        if (properties.getSpatialIndex().isEnabled()) {
+            return placeSpatialIndex.findWithin(bounds);
+        }
+        return new PlaceSpatialIndex.Candidates(
+            primaryReads.read(() -> placeRepository.findActiveWithinBounds(bounds)), catalogVersion);
+    }
 
-        scored.sort(Comparator.comparing(RecommendationScore::score).reversed());
-        int limit = request.getMaxResults() != null ? request.getMaxResults() : 5;
-        List<RecommendationScore> top = scored.stream().limit(limit).toList();
+    private GeoBounds candidateBounds(Set<UUID> memberIds, Map<UUID, PreferenceClient.MemberPref> prefs) {
+        double radiusKm = ScoringKernel.DEFAULT_MAX_DISTANCE_KM;
+        for (UUID memberId : memberIds) {
+            PreferenceClient.MemberPref pref = prefs.get(memberId);
+            if (pref != null && pref.currentLat() != null && pref.currentLng() != null && pref.maxDistanceKm() != null) {
+                radiusKm = Math.min(radiusKm, pref.maxDistanceKm());
+            }
+        }
 
-        List<RecommendationResponse> responses = top.stream().map(rs -> saveAndMap(groupId, requesterId, targetMembers, rs)).toList();
-        return responses;
+        GeoBounds bounds = null;
+        for (UUID memberId : memberIds) {
+            PreferenceClient.MemberPref pref = prefs.get(memberId);
+            if (pref == null || pref.currentLat() == null || pref.currentLng() == null) {
+                continue;
+            }
+            GeoBounds around = GeoBounds.around(pref.currentLat().doubleValue(), pref.currentLng().doubleValue(), radiusKm);
+            bounds = bounds == null ? around : bounds.intersect(around);
+        }
+        return bounds;
     }
 
-    private RecommendationResponse saveAndMap(UUID groupId, UUID requesterId, Set<UUID> memberIds, RecommendationScore rs) {
-        Recommendation rec = Recommendation.builder()
-            .groupId(groupId)
-            .place(rs.place())
-            .requestedBy(requesterId)
-            .memberIds(new ArrayList<>(memberIds))
-            .score(BigDecimal.valueOf(rs.score()).setScale(2, RoundingMode.HALF_UP))
-            .avgDistanceKm(BigDecimal.valueOf(rs.avgDistance()).setScale(2, RoundingMode.HALF_UP))
-            .maxDistanceKm(BigDecimal.valueOf(rs.maxDistance()).setScale(2, RoundingMode.HALF_UP))
-            .reasoning(rs.reasoning())
-            .build();
-        Recommendation saved = recommendationRepository.save(rec);
+    private List<RecommendationResponse> saveAndMap(UUID groupId, UUID requesterId, Set<UUID> memberIds,
+                                                    List<RecommendationScore> top, boolean preferencesStale) {
+        List<UUID> members = List.copyOf(memberIds);
+        LocalDateTime now = LocalDateTime.now();
+        List<Recommendation> recs = top.stream()
+            .map(rs -> Recommendation.builder()
+                .id(UUID.randomUUID())
+                .groupId(groupId)
+                .place(rs.place())
+                .requestedBy(requesterId)
+                .memberIds(members)
+                .score(BigDecimal.valueOf(rs.score()).setScale(2, RoundingMode.HALF_UP))
+                .avgDistanceKm(BigDecimal.valueOf(rs.avgDistance()).setScale(2, RoundingMode.HALF_UP))
+                .maxDistanceKm(BigDecimal.valueOf(rs.maxDistance()).setScale(2, RoundingMode.HALF_UP))
+                .reasoning(rs.reasoning())
+                .createdAt(now)
+                .build())
+            .toList();
+        if (properties.getWriteBehind().isEnabled()) {
+            recommendationWriteBehind.enqueue(recs);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> recommendationBatchWriter.insertAll(recs));
+        }
+        return recs.stream().map(rec -> toResponse(rec, preferencesStale)).toList();
+    }
+
+    private RecommendationResponse toResponse(Recommendation saved, boolean preferencesStale) {
         return RecommendationResponse.builder()
             .recommendationId(saved.getId())
             .placeId(saved.getPlace().getId())
@@ -93,106 +234,18 @@ public class RecommendationService {
             .maxDistanceKm(saved.getMaxDistanceKm())
             .reasoning(saved.getReasoning())
             .memberIds(saved.getMemberIds())
+            .preferencesStale(preferencesStale)
             .build();
     }
 
-    private record ScoreResult(double score, double avgDistance, double maxDistance, String reasoning) {}
-    private record RecommendationScore(Place place, double score, double avgDistance, double maxDistance, String reasoning) {}
-
-    private ScoreResult scorePlace(Place place, Set<UUID> memberIds, Map<UUID, PreferenceClient.MemberPref> prefs) {
-        List<Double> distances = new ArrayList<>();
-        List<String> reasons = new ArrayList<>();
-
-        double maxAllowedDistance = 50.0; // default cap
-        int minBudgetRank = Integer.MAX_VALUE; // 0=LOW,1=MEDIUM,2=HIGH
-        boolean requiresVegOnly = false;
-
-        for (UUID memberId : memberIds) {
-            PreferenceClient.MemberPref pref = prefs.get(memberId);
-            if (pref == null || pref.currentLat() == null || pref.currentLng() == null) {
-                continue;
-            }
-            double dist = DistanceCalculator.calculateDistance(
-                pref.currentLat().doubleValue(), pref.currentLng().doubleValue(),
-                place.getLat().doubleValue(), place.getLng().doubleValue()
-            );
-            distances.add(dist);
-
-            if (pref.maxDistanceKm() != null) {
-                maxAllowedDistance = Math.min(maxAllowedDistance, pref.maxDistanceKm());
-            }
-            minBudgetRank = Math.min(minBudgetRank, budgetRank(pref.budgetLevel()));
-            if ("VEG_ONLY".equals(pref.foodPreference())) {
-                requiresVegOnly = true;
-            }
-        }
-
-        if (distances.isEmpty()) {
-            return null;
-        }
-
-        double maxDistance = distances.stream().mapToDouble(Double::doubleValue).max().orElse(0);
-        if (maxDistance > maxAllowedDistance) {
-            return null; // fails distance constraint
+    private record FlightKey(UUID groupId, Set<UUID> memberIds, int maxResults) {
+        static FlightKey of(GenerateRecommendationRequest request) {
+            Set<UUID> memberIds = request.getMemberIds() == null ? Set.of() : Set.copyOf(request.getMemberIds());
+            return new FlightKey(request.getGroupId(), memberIds, limitOf(request));
         }
-
-        if (requiresVegOnly && !place.isHasVeg()) {
-            return null; // fails veg-only constraint
-        }
-
-        int placeBudgetRank = budgetRank(place.getCostLevel());
-        if (placeBudgetRank > minBudgetRank) {
-            return null; // fails budget constraint
-        }
-
-        DoubleSummaryStatistics stats = distances.stream().mapToDouble(Double::doubleValue).summaryStatistics();
-        double avg = stats.getAverage();
-        double stddev = calculateStdDev(distances, avg);
-
-        double distanceFairness = Math.max(0, 100 - (stddev / 50.0 * 100)); // normalized
-        double avgDistanceScore = Math.max(0, 100 - (avg / 50.0 * 100));
-        double budgetScore = budgetScore(placeBudgetRank, minBudgetRank);
-        double ratingScore = place.getRating() != null ? (place.getRating().doubleValue() / 5.0) * 100 : 50;
-
-        double finalScore = (distanceFairness * 0.4) + (avgDistanceScore * 0.3) + (budgetScore * 0.15) + (ratingScore * 0.15);
-
-        reasons.add(String.format("Fairness: stddev %.2f km", stddev));
-        reasons.add(String.format("Avg distance: %.2f km", avg));
-        reasons.add(String.format("Budget: place %s vs group min %s", rankLabel(placeBudgetRank), rankLabel(minBudgetRank)));
-        reasons.add(String.format("Rating: %s", place.getRating() != null ? place.getRating() : "N/A"));
-
-        String reasoning = String.join("; ", reasons);
-        return new ScoreResult(finalScore, avg, maxDistance, reasoning);
     }
 
-    private int budgetRank(String level) {
-        if (level == null) return 2;
-        return switch (level.toUpperCase()) {
-            case "LOW" -> 0;
-            case "MEDIUM" -> 1;
-            default -> 2;
-        };
-    }
-
-    private double budgetScore(int placeRank, int minRank) {
-        return placeRank <= minRank ? 100 : Math.max(0, 100 - (placeRank - minRank) * 50.0);
-    }
-
-    private String rankLabel(int rank) {
-        return switch (rank) {
-            case 0 -> "LOW";
-            case 1 -> "MEDIUM";
-            default -> "HIGH";
-        };
-    }
+    private record Generated(Set<UUID> preferenceUserIds, List<RecommendationResponse> responses) {}
 
-    private double calculateStdDev(List<Double> values, double mean) {
-        if (values.size() <= 1) return 0;
-        double variance = values.stream()
-            .mapToDouble(v -> Math.pow(v - mean, 2))
-            .average()
-            .orElse(0);
-        return Math.sqrt(variance);
-    }
+    private record RecommendationScore(Place place, double score, double avgDistance, double maxDistance, String reasoning) {}
 }
-
@@ -0,0 +1,361 @@
+package com.meetmate.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.entity.Recommendation;
+import com.meetmate.place.repository.RecommendationBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind path for generated recommendations, active when
+ * {@code recommendation.write-behind.enabled} is set.
+ * <p>
+ * Requests hand their rows to a bounded queue and return immediately; a single flusher thread
+ * drains it in JDBC batches. Rows that do not fit in the queue, or whose flush fails, are appended
+ * to a local spool file and replayed later, so a slow or unavailable database never blocks callers
+ * and never loses history.
+ * <p>
+ * Replay moves the spool aside to a {@code .replay} file and deletes it only once every row in it is
+ * written; a {@code .replay} file left by a crash or a failed attempt is finished before the spool is
+ * taken again. Replay is idempotent: rows whose id is already stored are skipped. Rows the database
+ * rejects for good, and lines that cannot be parsed, go to the dead-letter file so they cannot hold
+ * up the rows behind them.
+ */
+@Slf4j
+@Component
+public class RecommendationWriteBehind {
+
+    private final RecommendationBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final RecommendationProperties.WriteBehind config;
+    private final BlockingQueue<Recommendation> queue;
+    private final Path spoolFile;
+    private final Path replayFile;
+    private final Path deadLetterFile;
+    private final Object spoolLock = new Object();
+
+    private final Timer flushTimer;
+    private final Counter spooledCounter;
+    private final Counter replayedCounter;
+    private final Counter deadLetteredCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+    private long lastReplayAttempt;
+
+    public RecommendationWriteBehind(RecommendationBatchWriter batchWriter,
+                                     PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper,
+                                     RecommendationProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.config = properties.getWriteBehind();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        this.spoolFile = Path.of(config.getSpoolFile());
+        this.replayFile = spoolFile.resolveSibling(spoolFile.getFileName() + ".replay");
+        this.deadLetterFile = Path.of(config.getDeadLetterFile());
+
+        Gauge.builder("recommendation.write_behind.queue.depth", queue, BlockingQueue::size)
+            .description("Recommendations waiting to be flushed")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("recommendation.write_behind.flush")
+            .description("Time to write one batch of recommendations")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.spooledCounter = Counter.builder("recommendation.write_behind.spooled")
+            .description("Recommendations diverted to the spool file")
+            .register(meterRegistry);
+        this.replayedCounter = Counter.builder("recommendation.write_behind.replayed")
+            .description("Recommendations written from the spool file")
+            .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("recommendation.write_behind.dead_lettered")
+            .description("Spooled recommendations moved to the dead-letter file")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "recommendation-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        List<Recommendation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spool(remaining);
+        }
+    }
+
+    /**
+     * Queues recommendations for persistence. Never blocks; overflow is spooled to disk.
+     */
+    public void enqueue(List<Recommendation> recommendations) {
+        List<Recommendation> overflow = null;
+        for (Recommendation rec : recommendations) {
+            if (!running || !queue.offer(rec)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(rec);
+            }
+        }
+        if (overflow != null) {
+            spool(overflow);
+        }
+    }
+
+    private void runFlusher() {
+        List<Recommendation> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Recommendation first = queue.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpool();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Recommendation write-behind flusher failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Recommendation> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> batchWriter.insertAll(batch)));
+        } catch (RuntimeException ex) {
+            log.warn("Flushing {} recommendations failed, spooling them: {}", batch.size(), ex.getMessage());
+            spool(batch);
+        }
+    }
+
+    private void spool(List<Recommendation> recommendations) {
+        synchronized (spoolLock) {
+            try {
+                appendLines(spoolFile, toJson(recommendations));
+                spooledCounter.increment(recommendations.size());
+            } catch (IOException ex) {
+                log.error("Could not spool {} recommendations to {}; they are lost", recommendations.size(), spoolFile, ex);
+            }
+        }
+    }
+
+    void replaySpool() {
+        long now = System.currentTimeMillis();
+        if (now - lastReplayAttempt < config.getSpoolReplayIntervalMs()) {
+            return;
+        }
+        lastReplayAttempt = now;
+
+        List<Recommendation> entries = new ArrayList<>();
+        synchronized (spoolLock) {
+            try {
+                // finish a replay left over from a crash or a failed attempt before taking the spool again
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spoolFile)) {
+                        return;
+                    }
+                    Files.move(spoolFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+                for (String line : Files.readAllLines(replayFile, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        entries.add(objectMapper.readValue(line, SpoolEntry.class).toRecommendation());
+                    } catch (JsonProcessingException ex) {
+                        // e.g. a line cut short by a crash while spooling
+                        deadLetter(List.of(line), "unparseable spool line: " + ex.getOriginalMessage());
+                    }
+                }
+            } catch (IOException ex) {
+                log.error("Could not read recommendation spool {}", replayFile, ex);
+                return;
+            }
+        }
+
+        for (int from = 0; from < entries.size(); from += config.getBatchSize()) {
+            List<Recommendation> batch = entries.subList(from, Math.min(entries.size(), from + config.getBatchSize()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> batchWriter.insertAll(batch));
+                replayedCounter.increment(batch.size());
+            } catch (RuntimeException ex) {
+                if (isTransient(ex) || !replayOneByOne(batch)) {
+                    log.warn("Replaying spooled recommendations failed, keeping them for later: {}", ex.getMessage());
+                    keepForLater(entries.subList(from, entries.size()));
+                    return;
+                }
+            }
+        }
+        try {
+            Files.delete(replayFile);
+        } catch (IOException ex) {
+            // harmless: the next replay skips rows that are already stored
+            log.warn("Could not delete replayed spool {}: {}", replayFile, ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes a batch that failed as a whole row by row, to separate rows that are already stored or
+     * rejected for good from the rest. Returns false if a transient failure means the batch should be
+     * retried later.
+     */
+    private boolean replayOneByOne(List<Recommendation> batch) {
+        for (Recommendation rec : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> batchWriter.insertAll(List.of(rec)));
+                replayedCounter.increment();
+            } catch (DuplicateKeyException ex) {
+                // written before a crash or a failed rewrite of the replay file
+            } catch (RuntimeException ex) {
+                if (isTransient(ex)) {
+                    return false;
+                }
+                deadLetter(rec, ex.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only errors the database reports as permanent for this data count as non-transient; an
+     * unreachable database or a failure to start a transaction is worth retrying.
+     */
+    private static boolean isTransient(RuntimeException ex) {
+        return !(ex instanceof NonTransientDataAccessException) || ex instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * Shrinks the replay file to the rows not yet written. Written through a temporary file so a crash
+     * leaves either the old or the new list, never a truncated one.
+     */
+    private void keepForLater(List<Recommendation> remaining) {
+        Path temp = replayFile.resolveSibling(replayFile.getFileName() + ".tmp");
+        try {
+            Files.write(temp, toJson(remaining), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+            Files.move(temp, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            // the replay file still holds every row; the ones already written are skipped next time
+            log.warn("Could not shrink replay file {}: {}", replayFile, ex.getMessage());
+        }
+    }
+
+    private void deadLetter(Recommendation rec, String reason) {
+        try {
+            deadLetter(toJson(List.of(rec)), reason);
+        } catch (JsonProcessingException ex) {
+            log.error("Could not serialize recommendation {} for the dead-letter file; it is lost", rec.getId(), ex);
+        }
+    }
+
+    private void deadLetter(List<String> lines, String reason) {
+        log.error("Moving {} spooled recommendations to {}: {}", lines.size(), deadLetterFile, reason);
+        try {
+            appendLines(deadLetterFile, lines);
+            deadLetteredCounter.increment(lines.size());
+        } catch (IOException ex) {
+            log.error("Could not write dead-letter file {}; {} recommendations are lost", deadLetterFile, lines.size(), ex);
+        }
+    }
+
+    private static void appendLines(Path file, List<String> lines) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    private List<String> toJson(List<Recommendation> recommendations) throws JsonProcessingException {
+        List<String> lines = new ArrayList<>(recommendations.size());
+        for (Recommendation rec : recommendations) {
+            lines.add(objectMapper.writeValueAsString(SpoolEntry.from(rec)));
+        }
+        return lines;
+    }
+
+    record SpoolEntry(UUID id, UUID groupId, UUID placeId, UUID requestedBy, List<UUID> memberIds,
+                      BigDecimal score, BigDecimal avgDistanceKm, BigDecimal maxDistanceKm,
+                      String reasoning, LocalDateTime createdAt) {
+
+        static SpoolEntry from(Recommendation rec) {
+            return new SpoolEntry(rec.getId(), rec.getGroupId(), rec.getPlace().getId(), rec.getRequestedBy(),
+                rec.getMemberIds(), rec.getScore(), rec.getAvgDistanceKm(), rec.getMaxDistanceKm(),
+                rec.getReasoning(), rec.getCreatedAt());
+        }
+
+        Recommendation toRecommendation() {
+            return Recommendation.builder()
+                .id(id)
+                .groupId(groupId)
+                .place(Place.builder().id(placeId).build()) // the batch writer only needs the place id
+                .requestedBy(requestedBy)
+                .memberIds(memberIds)
+                .score(score)
+                .avgDistanceKm(avgDistanceKm)
+                .maxDistanceKm(maxDistanceKm)
+                .reasoning(reasoning)
+                .createdAt(createdAt)
+                .build();
+        }
+    }
+}
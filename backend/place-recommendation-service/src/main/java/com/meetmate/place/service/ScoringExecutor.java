@@ -0,0 +1,94 @@
+package com.meetmate.place.service;
+
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.util.TopKSelector;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs the scoring kernel over all candidates and keeps the best K.
+ * <p>
+ * Small candidate lists are scored on the calling thread. Lists at or above
+ * {@code recommendation.parallel.threshold} are split across a dedicated ForkJoinPool (never the
+ * common pool); every slice keeps its own top-K and the slices are merged on the way back up.
+ */
+@Component
+public class ScoringExecutor {
+
+    private final RecommendationProperties.Parallel config;
+    private final ForkJoinPool pool;
+
+    public ScoringExecutor(RecommendationProperties properties) {
+        this.config = properties.getParallel();
+        int parallelism = config.getParallelism() > 0
+            ? config.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        this.pool = config.isEnabled() ? new ForkJoinPool(parallelism, ScoringExecutor::newWorker, null, false) : null;
+    }
+
+    public TopKSelector selectTop(ScoringKernel kernel, int k) {
+        int size = kernel.size();
+        if (pool == null || size < config.getThreshold() || pool.getParallelism() < 2) {
+            return scoreRange(kernel, 0, size, k);
+        }
+        int slice = Math.max(config.getMinSliceSize(), size / (pool.getParallelism() * 4));
+        return pool.invoke(new ScoreTask(kernel, 0, size, k, slice));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    static TopKSelector scoreRange(ScoringKernel kernel, int from, int to, int k) {
+        TopKSelector selector = new TopKSelector(k);
+        for (int i = from; i < to; i++) {
+            double score = kernel.score(i);
+            if (Double.isNaN(score)) continue; // filtered out by constraints
+            selector.offer(score, i);
+        }
+        return selector;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("recommendation-scoring-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private static final class ScoreTask extends RecursiveTask<TopKSelector> {
+        private final ScoringKernel kernel;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int slice;
+
+        private ScoreTask(ScoringKernel kernel, int from, int to, int k, int slice) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.slice = slice;
+        }
+
+        @Override
+        protected TopKSelector compute() {
+            if (to - from <= slice) {
+                return scoreRange(kernel, from, to, k);
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(kernel, from, mid, k, slice);
+            left.fork();
+            TopKSelector right = new ScoreTask(kernel, mid, to, k, slice).compute();
+            TopKSelector merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+}
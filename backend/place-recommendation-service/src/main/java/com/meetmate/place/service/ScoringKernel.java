@@ -0,0 +1,213 @@
+package com.meetmate.place.service;
+
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.util.DistanceCalculator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Scores candidate places for one recommendation request.
+ * <p>
+ * Member preferences and place attributes are converted to primitive arrays once, when the
+ * kernel is prepared, including the radians and {@code cos(lat)} needed for distances, so
+ * trigonometry is O(places + members) rather than per pair. {@link #score(int)} then makes a
+ * single allocation-free pass over the members. Reasoning text is only built by {@link #describe(int)}, for the final top results.
+ * A prepared kernel is read-only and safe to share between threads.
+ */
+public final class ScoringKernel {
+
+    public static final double DEFAULT_MAX_DISTANCE_KM = 50.0;
+
+    private static final int RANK_LOW = 0;
+    private static final int RANK_MEDIUM = 1;
+    private static final int RANK_HIGH = 2;
+
+    private final boolean equirectangular;
+    private final double[] memberLatRads;
+    private final double[] memberLngRads;
+    private final double[] memberCosLats;
+    private final int memberCount;
+    private final double maxAllowedDistance;
+    private final int minBudgetRank;
+    private final boolean requiresVegOnly;
+
+    private final List<Place> places;
+    private final double[] placeLatRads;
+    private final double[] placeLngRads;
+    private final double[] placeCosLats;
+    private final double[] placeRatings;
+    private final int[] placeBudgetRanks;
+    private final boolean[] placeHasVeg;
+
+    private ScoringKernel(DistanceCalculator.Mode mode, double[] memberLatRads, double[] memberLngRads,
+                          double[] memberCosLats, int memberCount, double maxAllowedDistance,
+                          int minBudgetRank, boolean requiresVegOnly, List<Place> places) {
+        this.equirectangular = mode == DistanceCalculator.Mode.EQUIRECTANGULAR;
+        this.memberLatRads = memberLatRads;
+        this.memberLngRads = memberLngRads;
+        this.memberCosLats = memberCosLats;
+        this.memberCount = memberCount;
+        this.maxAllowedDistance = maxAllowedDistance;
+        this.minBudgetRank = minBudgetRank;
+        this.requiresVegOnly = requiresVegOnly;
+
+        this.places = places;
+        int size = places.size();
+        this.placeLatRads = new double[size];
+        this.placeLngRads = new double[size];
+        this.placeCosLats = new double[size];
+        this.placeRatings = new double[size];
+        this.placeBudgetRanks = new int[size];
+        this.placeHasVeg = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Place place = places.get(i);
+            placeLatRads[i] = Math.toRadians(place.getLat().doubleValue());
+            placeLngRads[i] = Math.toRadians(place.getLng().doubleValue());
+            placeCosLats[i] = Math.cos(placeLatRads[i]);
+            placeRatings[i] = place.getRating() != null ? place.getRating().doubleValue() : Double.NaN;
+            placeBudgetRanks[i] = budgetRank(place.getCostLevel());
+            placeHasVeg[i] = place.isHasVeg();
+        }
+    }
+
+    /**
+     * Members without a known location are ignored, as are their distance, budget and food constraints.
+     */
+    public static ScoringKernel prepare(Set<UUID> memberIds, Map<UUID, PreferenceClient.MemberPref> prefs,
+                                        List<Place> places, DistanceCalculator.Mode mode) {
+        double[] latRads = new double[memberIds.size()];
+        double[] lngRads = new double[memberIds.size()];
+        double[] cosLats = new double[memberIds.size()];
+        int count = 0;
+        double maxAllowedDistance = DEFAULT_MAX_DISTANCE_KM;
+        int minBudgetRank = Integer.MAX_VALUE;
+        boolean requiresVegOnly = false;
+
+        for (UUID memberId : memberIds) {
+            PreferenceClient.MemberPref pref = prefs.get(memberId);
+            if (pref == null || pref.currentLat() == null || pref.currentLng() == null) {
+                continue;
+            }
+            latRads[count] = Math.toRadians(pref.currentLat().doubleValue());
+            lngRads[count] = Math.toRadians(pref.currentLng().doubleValue());
+            cosLats[count] = Math.cos(latRads[count]);
+            count++;
+
+            if (pref.maxDistanceKm() != null) {
+                maxAllowedDistance = Math.min(maxAllowedDistance, pref.maxDistanceKm());
+            }
+            minBudgetRank = Math.min(minBudgetRank, budgetRank(pref.budgetLevel()));
+            if ("VEG_ONLY".equals(pref.foodPreference())) {
+                requiresVegOnly = true;
+            }
+        }
+        return new ScoringKernel(mode, latRads, lngRads, cosLats, count, maxAllowedDistance,
+            minBudgetRank, requiresVegOnly, places);
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    public Place place(int index) {
+        return places.get(index);
+    }
+
+    /**
+     * Returns the score of the place at {@code index}, or {@code NaN} if it fails a group constraint.
+     */
+    public double score(int index) {
+        if (memberCount == 0) {
+            return Double.NaN;
+        }
+        if (requiresVegOnly && !placeHasVeg[index]) {
+            return Double.NaN; // fails veg-only constraint
+        }
+        int placeBudgetRank = placeBudgetRanks[index];
+        if (placeBudgetRank > minBudgetRank) {
+            return Double.NaN; // fails budget constraint
+        }
+
+        // Welford's single-pass mean and variance
+        double mean = 0;
+        double m2 = 0;
+        for (int m = 0; m < memberCount; m++) {
+            double dist = distance(m, index);
+            if (dist > maxAllowedDistance) {
+                return Double.NaN; // fails distance constraint
+            }
+            double delta = dist - mean;
+            mean += delta / (m + 1);
+            m2 += delta * (dist - mean);
+        }
+        double stddev = memberCount > 1 ? Math.sqrt(m2 / memberCount) : 0;
+        return combine(mean, stddev, placeBudgetRank, placeRatings[index]);
+    }
+
+    /**
+     * Full breakdown of a place that passed {@link #score(int)}, including the reasoning text.
+     */
+    public ScoreDetail describe(int index) {
+        double mean = 0;
+        double m2 = 0;
+        double max = 0;
+        for (int m = 0; m < memberCount; m++) {
+            double dist = distance(m, index);
+            double delta = dist - mean;
+            mean += delta / (m + 1);
+            m2 += delta * (dist - mean);
+            max = Math.max(max, dist);
+        }
+        double stddev = memberCount > 1 ? Math.sqrt(m2 / memberCount) : 0;
+
+        int placeBudgetRank = placeBudgetRanks[index];
+        Place place = places.get(index);
+        String reasoning = String.join("; ",
+            String.format("Fairness: stddev %.2f km", stddev),
+            String.format("Avg distance: %.2f km", mean),
+            String.format("Budget: place %s vs group min %s", rankLabel(placeBudgetRank), rankLabel(minBudgetRank)),
+            String.format("Rating: %s", place.getRating() != null ? place.getRating() : "N/A"));
+        return new ScoreDetail(combine(mean, stddev, placeBudgetRank, placeRatings[index]), mean, max, reasoning);
+    }
+
+    private double distance(int member, int place) {
+        if (equirectangular) {
+            return DistanceCalculator.equirectangular(memberLatRads[member], memberLngRads[member], memberCosLats[member],
+                placeLatRads[place], placeLngRads[place], placeCosLats[place]);
+        }
+        return DistanceCalculator.haversine(memberLatRads[member], memberLngRads[member], memberCosLats[member],
+            placeLatRads[place], placeLngRads[place], placeCosLats[place]);
+    }
+
+    private double combine(double avg, double stddev, int placeBudgetRank, double rating) {
+        double distanceFairness = Math.max(0, 100 - (stddev / DEFAULT_MAX_DISTANCE_KM * 100)); // normalized
+        double avgDistanceScore = Math.max(0, 100 - (avg / DEFAULT_MAX_DISTANCE_KM * 100));
+        double budgetScore = budgetScore(placeBudgetRank, minBudgetRank);
+        double ratingScore = Double.isNaN(rating) ? 50 : (rating / 5.0) * 100;
+        return (distanceFairness * 0.4) + (avgDistanceScore * 0.3) + (budgetScore * 0.15) + (ratingScore * 0.15);
+    }
+
+    private static double budgetScore(int placeRank, int minRank) {
+        return placeRank <= minRank ? 100 : Math.max(0, 100 - (placeRank - minRank) * 50.0);
+    }
+
+    private static int budgetRank(String level) {
+        if (level == null) return RANK_HIGH;
+        if (level.equalsIgnoreCase("LOW")) return RANK_LOW;
+        if (level.equalsIgnoreCase("MEDIUM")) return RANK_MEDIUM;
+        return RANK_HIGH;
+    }
+
+    private static String rankLabel(int rank) {
+        return switch (rank) {
+            case RANK_LOW -> "LOW";
+            case RANK_MEDIUM -> "MEDIUM";
+            default -> "HIGH";
+        };
+    }
+
+    public record ScoreDetail(double score, double avgDistance, double maxDistance, String reasoning) {}
+}
@@ -15,5 +15,47 @@ public class DistanceCalculator {
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
         return EARTH_RADIUS_KM * c;
     }
-}
 
+    /**
+     * Haversine distance from precomputed radians and {@code cos(lat)}, so callers that
+     * compare many points pay for the conversions once per point instead of once per pair.
+     */
+    public static double haversine(double lat1Rad, double lng1Rad, double cosLat1,
+                                   double lat2Rad, double lng2Rad, double cosLat2) {
+        double sinLat = Math.sin((lat2Rad - lat1Rad) / 2);
+        double sinLng = Math.sin((lng2Rad - lng1Rad) / 2);
+        double a = sinLat * sinLat + cosLat1 * cosLat2 * sinLng * sinLng;
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * Equirectangular approximation from precomputed radians and {@code cos(lat)}; no trigonometry
+     * per pair. Compared to haversine the relative error stays below 0.01% (under 10 m per 100 km)
+     * for distances up to 100 km with both points within 60 degrees of the equator, which is well
+     * inside the two-decimal rounding used for intra-city recommendations. Not suitable for long
+     * distances or near the poles.
+     */
+    public static double equirectangular(double lat1Rad, double lng1Rad, double cosLat1,
+                                         double lat2Rad, double lng2Rad, double cosLat2) {
+        double dLng = lng2Rad - lng1Rad;
+        if (dLng > Math.PI) {
+            dLng -= 2 * Math.PI;
+        } else if (dLng < -Math.PI) {
+            dLng += 2 * Math.PI;
+        }
+        double x = dLng * (cosLat1 + cosLat2) / 2;
+        double y = lat2Rad - lat1Rad;
+        return EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+    }
+
+    public enum Mode {
+        /**
+         * Exact great-circle distance.
+         */
+        HAVERSINE,
+        /**
+         * Flat-earth approximation for short, intra-city distances.
+         */
+        EQUIRECTANGULAR
+    }
+}
@@ -0,0 +1,53 @@
+package com.meetmate.place.util;
+
+/**
+ * Axis-aligned lat/lng box. Boxes built with {@link #around} always contain the whole
+ * circle, so they can be used to prune candidates before the exact distance check.
+ */
+public record GeoBounds(double minLat, double maxLat, double minLng, double maxLng) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    public static final GeoBounds WORLD = new GeoBounds(-90, 90, -180, 180);
+
+    public static GeoBounds around(double lat, double lng, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angular);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+        if (minLat <= -90 || maxLat >= 90) {
+            return new GeoBounds(Math.max(minLat, -90), Math.min(maxLat, 90), -180, 180);
+        }
+
+        double sinAngular = Math.sin(angular);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        if (sinAngular >= cosLat) {
+            return new GeoBounds(minLat, maxLat, -180, 180);
+        }
+        double dLng = Math.toDegrees(Math.asin(sinAngular / cosLat));
+        double minLng = lng - dLng;
+        double maxLng = lng + dLng;
+        if (minLng < -180 || maxLng > 180) {
+            // crossing the antimeridian; widen instead of splitting the box
+            return new GeoBounds(minLat, maxLat, -180, 180);
+        }
+        return new GeoBounds(minLat, maxLat, minLng, maxLng);
+    }
+
+    public GeoBounds intersect(GeoBounds other) {
+        return new GeoBounds(
+            Math.max(minLat, other.minLat),
+            Math.min(maxLat, other.maxLat),
+            Math.max(minLng, other.minLng),
+            Math.min(maxLng, other.maxLng)
+        );
+    }
+
+    public boolean isEmpty() {
+        return minLat > maxLat || minLng > maxLng;
+    }
+
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -0,0 +1,141 @@
+package com.meetmate.place.util;
+
+/**
+ * Keeps the {@code k} highest scores seen so far in a primitive min-heap, so selecting
+ * the best K of P candidates costs O(P log K) time and O(K) memory.
+ * <p>
+ * Candidates are identified by an int id (typically their index in the candidate list).
+ * Equal scores are ranked by ascending id, which matches a stable descending sort.
+ * Not thread-safe.
+ */
+public class TopKSelector {
+
+    private final int capacity;
+    private final double[] scores;
+    private final int[] ids;
+    private int size;
+    private int offered;
+
+    public TopKSelector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        this.capacity = k;
+        this.scores = new double[k];
+        this.ids = new int[k];
+    }
+
+    /**
+     * Offers a candidate; returns true if it is currently among the top K.
+     */
+    public boolean offer(double score, int id) {
+        offered++;
+        if (size < capacity) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+            return true;
+        }
+        if (capacity == 0 || !ranksAbove(score, id, scores[0], ids[0])) {
+            return false;
+        }
+        scores[0] = score;
+        ids[0] = id;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * Folds another selector's candidates into this one; used to combine per-thread results.
+     */
+    public void merge(TopKSelector other) {
+        int total = offered + other.offered;
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], other.ids[i]);
+        }
+        offered = total;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of candidates offered so far, including merged selectors.
+     */
+    public int offered() {
+        return offered;
+    }
+
+    /**
+     * Lowest score currently kept, or negative infinity while fewer than K candidates were offered.
+     */
+    public double threshold() {
+        return size < capacity ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    /**
+     * Ids of the kept candidates, best first.
+     */
+    public int[] idsDescending() {
+        double[] sortedScores = new double[size];
+        int[] sortedIds = new int[size];
+        System.arraycopy(scores, 0, sortedScores, 0, size);
+        System.arraycopy(ids, 0, sortedIds, 0, size);
+        // K is small (at most a few dozen), insertion sort avoids boxing
+        for (int i = 1; i < size; i++) {
+            double s = sortedScores[i];
+            int id = sortedIds[i];
+            int j = i - 1;
+            while (j >= 0 && ranksAbove(s, id, sortedScores[j], sortedIds[j])) {
+                sortedScores[j + 1] = sortedScores[j];
+                sortedIds[j + 1] = sortedIds[j];
+                j--;
+            }
+            sortedScores[j + 1] = s;
+            sortedIds[j + 1] = id;
+        }
+        return sortedIds;
+    }
+
+    private static boolean ranksAbove(double score, int id, double otherScore, int otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private void siftUp(int index) {
+        double score = scores[index];
+        int id = ids[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(scores[parent], ids[parent], score, id)) {
+                break;
+            }
+            scores[index] = scores[parent];
+            ids[index] = ids[parent];
+            index = parent;
+        }
+        scores[index] = score;
+        ids[index] = id;
+    }
+
+    private void siftDown(int index) {
+        double score = scores[index];
+        int id = ids[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ranksAbove(scores[child], ids[child], scores[right], ids[right])) {
+                child = right;
+            }
+            if (!ranksAbove(score, id, scores[child], ids[child])) {
+                break;
+            }
+            scores[index] = scores[child];
+            ids[index] = ids[child];
+            index = child;
+        }
+        scores[index] = score;
+        ids[index] = id;
+    }
+}
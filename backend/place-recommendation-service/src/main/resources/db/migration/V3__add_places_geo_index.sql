@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_places_active_lat_lng ON places(is_active, lat, lng);
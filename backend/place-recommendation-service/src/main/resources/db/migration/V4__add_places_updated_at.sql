@@ -0,0 +1,4 @@
+ALTER TABLE places ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+UPDATE places SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE places ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_places_updated_at ON places(updated_at);
@@ -0,0 +1,188 @@
+package com.meetmate.place.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetmate.place.config.RecommendationProperties;
+import com.meetmate.place.entity.Place;
+import com.meetmate.place.entity.Recommendation;
+import com.meetmate.place.repository.RecommendationBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class RecommendationWriteBehindTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RecommendationBatchWriter batchWriter = mock(RecommendationBatchWriter.class);
+    private final List<UUID> written = new ArrayList<>();
+
+    private Path spoolFile;
+    private Path replayFile;
+    private Path deadLetterFile;
+    private RecommendationWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        spoolFile = dir.resolve("spool.jsonl");
+        replayFile = dir.resolve("spool.jsonl.replay");
+        deadLetterFile = dir.resolve("dead-letter.jsonl");
+
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.getWriteBehind().setSpoolFile(spoolFile.toString());
+        properties.getWriteBehind().setDeadLetterFile(deadLetterFile.toString());
+        properties.getWriteBehind().setBatchSize(2);
+        properties.getWriteBehind().setSpoolReplayIntervalMs(0);
+
+        // not started, so enqueue spools straight to disk
+        writeBehind = new RecommendationWriteBehind(batchWriter, mock(PlatformTransactionManager.class),
+            objectMapper, properties, new SimpleMeterRegistry());
+        onInsert(batch -> {});
+    }
+
+    @Test
+    void leftoverReplayFileIsFinishedBeforeTheSpool() throws IOException {
+        Recommendation leftover = recommendation();
+        writeBehind.enqueue(List.of(leftover));
+        Files.move(spoolFile, replayFile);
+        Recommendation fresh = recommendation();
+        writeBehind.enqueue(List.of(fresh));
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(leftover.getId());
+        assertThat(replayFile).doesNotExist();
+        assertThat(idsIn(spoolFile)).containsExactly(fresh.getId());
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(leftover.getId(), fresh.getId());
+        assertThat(spoolFile).doesNotExist();
+        assertThat(replayFile).doesNotExist();
+    }
+
+    @Test
+    void transientFailureKeepsOnlyTheUnwrittenRows() throws IOException {
+        List<Recommendation> recs = List.of(recommendation(), recommendation(), recommendation(),
+            recommendation(), recommendation());
+        writeBehind.enqueue(recs);
+        onInsert(batch -> {
+            if (batch.contains(recs.get(2).getId())) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+        });
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(recs.get(0).getId(), recs.get(1).getId());
+        assertThat(idsIn(replayFile)).containsExactly(recs.get(2).getId(), recs.get(3).getId(), recs.get(4).getId());
+        assertThat(deadLetterFile).doesNotExist();
+    }
+
+    @Test
+    void alreadyStoredRowIsSkipped() {
+        Recommendation stored = recommendation();
+        Recommendation pending = recommendation();
+        writeBehind.enqueue(List.of(stored, pending));
+        onInsert(batch -> {
+            if (batch.contains(stored.getId())) {
+                throw new DuplicateKeyException("duplicate key value violates unique constraint");
+            }
+        });
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(pending.getId());
+        assertThat(replayFile).doesNotExist();
+        assertThat(deadLetterFile).doesNotExist();
+    }
+
+    @Test
+    void rejectedAndUnparseableRowsGoToTheDeadLetterFile() throws IOException {
+        Recommendation orphan = recommendation();
+        Recommendation valid = recommendation();
+        writeBehind.enqueue(List.of(orphan));
+        Files.writeString(spoolFile, "{\"id\":\"truncat\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeBehind.enqueue(List.of(valid));
+        onInsert(batch -> {
+            if (batch.contains(orphan.getId())) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+        });
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(valid.getId());
+        List<String> deadLetters = Files.readAllLines(deadLetterFile, StandardCharsets.UTF_8);
+        assertThat(deadLetters).hasSize(2);
+        assertThat(deadLetters).anyMatch(line -> line.contains(orphan.getId().toString()));
+        assertThat(deadLetters).contains("{\"id\":\"truncat");
+        assertThat(spoolFile).doesNotExist();
+        assertThat(replayFile).doesNotExist();
+
+        writeBehind.replaySpool();
+
+        assertThat(written).containsExactly(valid.getId());
+    }
+
+    /**
+     * Stubs the batch writer: {@code check} sees the ids of each insert and may throw to fail it;
+     * ids of inserts that pass are recorded as written.
+     */
+    private void onInsert(Consumer<Set<UUID>> check) {
+        doAnswer(invocation -> {
+            List<Recommendation> batch = invocation.getArgument(0);
+            List<UUID> ids = batch.stream().map(Recommendation::getId).toList();
+            check.accept(Set.copyOf(ids));
+            written.addAll(ids);
+            return null;
+        }).when(batchWriter).insertAll(anyList());
+    }
+
+    private List<UUID> idsIn(Path file) throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            ids.add(objectMapper.readValue(line, RecommendationWriteBehind.SpoolEntry.class).id());
+        }
+        return ids;
+    }
+
+    private static Recommendation recommendation() {
+        return Recommendation.builder()
+            .id(UUID.randomUUID())
+            .groupId(UUID.randomUUID())
+            .place(Place.builder().id(UUID.randomUUID()).build())
+            .requestedBy(UUID.randomUUID())
+            .memberIds(List.of(UUID.randomUUID()))
+            .score(BigDecimal.valueOf(87.5))
+            .avgDistanceKm(BigDecimal.valueOf(2.4))
+            .maxDistanceKm(BigDecimal.valueOf(3.1))
+            .reasoning("Close to everyone")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -27,7 +27,7 @@ timeout /t 5
 
 echo 5. Starting Place Recommendation Service...
 cd ..\place-recommendation-service
-start "Place Service" cmd /k "java -jar target\place-recommendation-service-1.0.0.jar"
+start "Place Service" cmd /k "java -jar target\place-recommendation-service-1.0.0-exec.jar"
 
 echo All services started!
 echo Access points: